@@ -0,0 +1,21 @@
+package site.login.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.login.global.jwt.JwtUtil;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.metrics.AuthMetrics;
+
+// 벤치마크 공통 객체 생성
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123";
+    static final long EXPIRATION = 3_600_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil(int cacheMaxSize) {
+        return new JwtUtil(SECRET, EXPIRATION, cacheMaxSize, new AuthEventLogger(20),
+                new AuthMetrics(new SimpleMeterRegistry()));
+    }
+}
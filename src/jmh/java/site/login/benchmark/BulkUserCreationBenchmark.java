@@ -0,0 +1,205 @@
+package site.login.benchmark;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.login.domain.user.cache.RegisteredEmailListener;
+import site.login.domain.user.cache.UserCacheEvictionListener;
+import site.login.domain.user.entity.Role;
+import site.login.domain.user.entity.User;
+import site.login.domain.user.repository.UserRepository;
+import site.login.domain.user.service.BulkUserCreationService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 대량 생성 벤치마크 (H2 메모리 DB, 실제 JPA/Hibernate 설정)
+ * - identityPerRowSave : 시퀀스 도입 이전 기준값 (IDENTITY 매핑, 행마다 persist + 트랜잭션)
+ * - identityBulkCreate : IDENTITY 매핑에 bulkCreate와 같은 persist/flush/clear 반복 (배치 설정이 있어도 행마다 INSERT)
+ * - perRowSave : 현재 회원가입 경로 (시퀀스, 행마다 saveAndFlush, 트랜잭션)
+ * - bulkCreate : BulkUserCreationService (시퀀스 미리 할당 + JDBC 배치)
+ * batchSize=1은 JDBC 배치를 끈 값
+ * roundTripMicros는 문장 실행/커밋마다 더하는 지연 (0이면 H2 메모리 DB 그대로, 200이면 같은 리전 MySQL 정도)
+ * 점수는 초당 생성한 사용자 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkUserCreationBenchmark {
+
+    private static final int USERS_PER_INVOCATION = 1_000;
+    private static final String ENCODED_PASSWORD = "{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1Z3sHn9sFJoBtuBzz4Q3Fiy";
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    @Param({"0", "200"})
+    public long roundTripMicros;
+
+    private AnnotationConfigApplicationContext context;
+    private UserRepository userRepository;
+    private BulkUserCreationService bulkUserCreationService;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("benchmark", Map.of(
+                        "app.jpa.batch-size", batchSize,
+                        "benchmark.round-trip-micros", roundTripMicros)));
+        context.register(JpaBenchmarkConfig.class);
+        context.refresh();
+
+        userRepository = context.getBean(UserRepository.class);
+        bulkUserCreationService = context.getBean(BulkUserCreationService.class);
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        // 트랜잭션에 묶인 공유 EntityManager 프록시
+        entityManager = context.getBean(EntityManager.class);
+    }
+
+    // 반복마다 테이블 비우기 (행 수 증가에 따른 인덱스 비용 차이 제거)
+    @TearDown(Level.Iteration)
+    public void clearUsers() {
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM users_identity");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public void identityPerRowSave() {
+        for (IdentityUser user : newIdentityUsers()) {
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(user));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public int identityBulkCreate() {
+        List<IdentityUser> users = newIdentityUsers();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < users.size(); i++) {
+                entityManager.persist(users.get(i));
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return users.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public void perRowSave() {
+        for (User user : newUsers()) {
+            userRepository.saveAndFlush(user);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public int bulkCreate() {
+        return bulkUserCreationService.createAll(newUsers());
+    }
+
+    private List<User> newUsers() {
+        List<User> users = new ArrayList<>(USERS_PER_INVOCATION);
+        for (int i = 0; i < USERS_PER_INVOCATION; i++) {
+            long n = sequence++;
+            users.add(User.builder()
+                    .email("bulk" + n + "@example.com")
+                    .password(ENCODED_PASSWORD)
+                    .name("사용자" + n)
+                    .role(Role.USER)
+                    .build());
+        }
+        return users;
+    }
+
+    private List<IdentityUser> newIdentityUsers() {
+        List<IdentityUser> users = new ArrayList<>(USERS_PER_INVOCATION);
+        for (int i = 0; i < USERS_PER_INVOCATION; i++) {
+            long n = sequence++;
+            users.add(IdentityUser.builder()
+                    .email("bulk" + n + "@example.com")
+                    .password(ENCODED_PASSWORD)
+                    .name("사용자" + n)
+                    .role(Role.USER)
+                    .build());
+        }
+        return users;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    @Import({BulkUserCreationService.class, UserCacheEvictionListener.class, RegisteredEmailListener.class})
+    static class JpaBenchmarkConfig {
+
+        @Bean
+        DataSource dataSource(ConfigurableListableBeanFactory beanFactory) {
+            long roundTripMicros = Long.parseLong(beanFactory.resolveEmbeddedValue("${benchmark.round-trip-micros}"));
+            return new RoundTripLatencyDataSource(
+                    new DriverManagerDataSource("jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1", "sa", ""), roundTripMicros);
+        }
+
+        // 운영과 같은 배치 설정 (HibernateConfig), 2차 캐시는 제외
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                    ConfigurableListableBeanFactory beanFactory) {
+            String batchSize = beanFactory.resolveEmbeddedValue("${app.jpa.batch-size}");
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(User.class.getPackageName(), IdentityUser.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(
+                    AvailableSettings.HBM2DDL_AUTO, "create-drop",
+                    AvailableSettings.STATEMENT_BATCH_SIZE, batchSize,
+                    AvailableSettings.ORDER_INSERTS, "true",
+                    AvailableSettings.ORDER_UPDATES, "true",
+                    AvailableSettings.USE_SECOND_LEVEL_CACHE, "false",
+                    AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory)
+            ));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package site.login.benchmark;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.login.domain.user.entity.Role;
+
+import jakarta.persistence.*;
+
+/**
+ * 벤치마크 기준값 전용 엔티티 (시퀀스 도입 이전 users 매핑과 같은 IDENTITY)
+ * IDENTITY는 INSERT 후에야 id를 알 수 있어서 Hibernate가 JDBC 배치를 쓰지 않음
+ */
+@Entity
+@Table(name = "users_identity", uniqueConstraints =
+        @UniqueConstraint(name = "uk_users_identity_email", columnNames = "email"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdentityUser {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column
+    private String email;
+
+    @Column
+    private String password;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private Role role;
+}
@@ -0,0 +1,60 @@
+package site.login.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import site.login.global.jwt.JwtUtil;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtUtil 토큰 생성 / 검증 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil; // 캐시 크기 1 + 매번 다른 토큰 -> 항상 파싱
+    private String token;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(10_000);
+        uncachedJwtUtil = BenchmarkFixtures.jwtUtil(1);
+        token = jwtUtil.generateToken("user@example.com", 1L, "ROLE_USER", 0);
+
+        tokens = new String[1024];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = jwtUtil.generateToken("user" + i + "@example.com", (long) i, "ROLE_USER", 0);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("user@example.com");
+    }
+
+    @Benchmark
+    public String generateTokenWithClaims() {
+        return jwtUtil.generateToken("user@example.com", 1L, "ROLE_USER", 0);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return jwtUtil.getEmailFromToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        String next = tokens[cursor++ & (tokens.length - 1)];
+        return uncachedJwtUtil.validateToken(next);
+    }
+}
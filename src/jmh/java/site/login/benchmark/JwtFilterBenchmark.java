@@ -0,0 +1,99 @@
+package site.login.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import site.login.domain.user.cache.UserCache;
+import site.login.domain.user.cache.UserSnapshot;
+import site.login.domain.user.entity.Role;
+import site.login.domain.user.entity.User;
+import site.login.domain.user.repository.UserRepository;
+import site.login.global.jwt.JwtAuthenticationFilter;
+import site.login.global.jwt.JwtUtil;
+import site.login.global.jwt.TokenVersionRegistry;
+import site.login.global.metrics.AuthMetrics;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// JwtAuthenticationFilter 전체 경로 벤치마크 (UserRepository는 mock)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtAuthenticationFilter statelessFilter;
+    private JwtAuthenticationFilter repositoryFilter;
+    private String statelessToken;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .email("user@example.com")
+                .password("{bcrypt}hash")
+                .name("사용자")
+                .role(Role.USER)
+                .build();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findSnapshotByEmail(anyString())).thenReturn(Optional.of(UserSnapshot.from(user)));
+        when(userRepository.findTokenVersionById(anyLong())).thenReturn(Optional.of(0));
+
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil(10_000);
+        // 캐시 크기 1 -> 사용자 조회는 매번 repository까지 감
+        UserCache userCache = new UserCache(userRepository, 1, 0, 0);
+        TokenVersionRegistry tokenVersionRegistry = new TokenVersionRegistry(userRepository, 10_000, 600);
+
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+
+        statelessFilter = new JwtAuthenticationFilter(jwtUtil, userCache, tokenVersionRegistry, authMetrics, true);
+        repositoryFilter = new JwtAuthenticationFilter(jwtUtil, userCache, tokenVersionRegistry, authMetrics, false);
+        statelessToken = jwtUtil.generateToken("user@example.com", 1L, "ROLE_USER", 0);
+        legacyToken = jwtUtil.generateToken("user@example.com");
+    }
+
+    @Benchmark
+    public Object statelessClaims() throws ServletException, IOException {
+        return run(statelessFilter, statelessToken);
+    }
+
+    @Benchmark
+    public Object repositoryLookup() throws ServletException, IOException {
+        return run(repositoryFilter, legacyToken);
+    }
+
+    @Benchmark
+    public Object publicRoute() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        statelessFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private Object run(JwtAuthenticationFilter filter, String token) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
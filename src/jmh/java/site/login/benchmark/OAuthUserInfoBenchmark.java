@@ -0,0 +1,64 @@
+package site.login.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import site.login.domain.oauth.attribute.OAuthProviderProperties;
+import site.login.domain.oauth.attribute.OAuthUserInfoRegistry;
+import site.login.domain.oauth.dto.OAuthUserInfo;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 제공자별 사용자 정보 추출 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OAuthUserInfoBenchmark {
+
+    private OAuthUserInfoRegistry registry;
+    private Map<String, Object> googleAttributes;
+    private Map<String, Object> kakaoAttributes;
+    private Map<String, Object> naverAttributes;
+
+    @Setup
+    public void setUp() {
+        registry = new OAuthUserInfoRegistry(new OAuthProviderProperties());
+        googleAttributes = Map.of(
+                "sub", "109876543210987654321",
+                "name", "구글사용자",
+                "email", "google@example.com");
+        kakaoAttributes = Map.of(
+                "id", 1234567890L,
+                "kakao_account", Map.of(
+                        "email", "kakao@example.com",
+                        "profile", Map.of("nickname", "카카오닉네임")));
+        naverAttributes = Map.of(
+                "resultcode", "00",
+                "response", Map.of(
+                        "id", "naver-id-123",
+                        "name", "네이버사용자",
+                        "email", "naver@example.com"));
+    }
+
+    @Benchmark
+    public String google() {
+        return read(registry.extract("google", googleAttributes));
+    }
+
+    @Benchmark
+    public String kakao() {
+        return read(registry.extract("kakao", kakaoAttributes));
+    }
+
+    @Benchmark
+    public String naver() {
+        return read(registry.extract("naver", naverAttributes));
+    }
+
+    // 로그인 한 번에 호출되는 getter 전부 사용
+    private static String read(OAuthUserInfo userInfo) {
+        return userInfo.getProvider() + userInfo.getId() + userInfo.getName() + userInfo.getEmail();
+    }
+}
@@ -0,0 +1,70 @@
+package site.login.benchmark;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 메모리 DB에 네트워크 왕복 지연을 흉내 내는 DataSource
+ * 문장 실행(execute*, executeBatch)과 commit/rollback마다 roundTripMicros만큼 대기
+ * H2 메모리 DB는 왕복 비용이 없어서 JDBC 배치로 줄어드는 왕복 수가 점수에 드러나지 않음
+ */
+class RoundTripLatencyDataSource extends DelegatingDataSource {
+
+    private static final Set<String> CONNECTION_ROUND_TRIPS = Set.of("commit", "rollback");
+
+    private final long roundTripNanos;
+
+    RoundTripLatencyDataSource(DataSource target, long roundTripMicros) {
+        super(target);
+        this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return roundTripNanos == 0 ? connection : proxy(Connection.class, connection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (isRoundTrip(method)) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+            Object result = invoke(method, target, args);
+            // Connection이 만든 Statement도 같은 방식으로 감쌈
+            if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                return proxy((Class<Statement>) method.getReturnType(), statement);
+            }
+            return result;
+        };
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static boolean isRoundTrip(Method method) {
+        String name = method.getName();
+        if (Statement.class.isAssignableFrom(method.getDeclaringClass())) {
+            return name.startsWith("execute");
+        }
+        return CONNECTION_ROUND_TRIPS.contains(name);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
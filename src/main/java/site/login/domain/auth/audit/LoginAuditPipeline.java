@@ -0,0 +1,157 @@
+package site.login.domain.auth.audit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 기록 비동기 저장 (users.last_login_at, users.login_count)
+ * 로그인 트랜잭션에서는 버퍼에 넣기만 하고, 별도 스레드가 주기적으로(또는 batchSize만큼 쌓이면)
+ * 사용자별로 합쳐서 JDBC batch UPDATE로 저장. 버퍼가 가득 차면 기록을 버림.
+ */
+@Slf4j
+@Component
+public class LoginAuditPipeline {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login_at = ?, login_count = COALESCE(login_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArrayBlockingQueue<LoginEvent> buffer; // 고정 크기 링 버퍼
+    private final int batchSize;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+
+    public LoginAuditPipeline(JdbcTemplate jdbcTemplate,
+                              @Value("${login.audit.buffer-capacity:10000}") int bufferCapacity,
+                              @Value("${login.audit.batch-size:500}") int batchSize,
+                              @Value("${login.audit.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-audit-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 로그인 기록 (대기 없음, 버퍼가 가득 차거나 종료 중이면 버림 - 로그인 자체는 실패시키지 않음)
+    public void record(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (closed) {
+            dropped.increment();
+            return;
+        }
+        if (!buffer.offer(new LoginEvent(userId, LocalDateTime.now()))) {
+            dropped.increment();
+            return;
+        }
+        recorded.increment();
+
+        // batchSize 이상 쌓이면 주기를 기다리지 않고 바로 저장
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 (버퍼에 남은 기록은 shutdown()의 마지막 flush가 저장)
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getFlushedRowCount() {
+        return flushedRows.sum();
+    }
+
+    public long getFailedCount() {
+        return failedEvents.sum();
+    }
+
+    // 버퍼 비우기 (flusher 스레드 하나에서만 실행)
+    void flush() {
+        flushRequested.set(false);
+        List<LoginEvent> events = new ArrayList<>(Math.min(buffer.size(), batchSize * 4));
+        buffer.drainTo(events);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // 사용자별로 합치기 (마지막 로그인 시각 + 로그인 횟수)
+        Map<Long, Coalesced> byUser = new LinkedHashMap<>();
+        for (LoginEvent event : events) {
+            byUser.computeIfAbsent(event.getUserId(), id -> new Coalesced()).add(event.getLoggedInAt());
+        }
+
+        try {
+            List<Map.Entry<Long, Coalesced>> rows = new ArrayList<>(byUser.entrySet());
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows, batchSize, (ps, row) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(row.getValue().lastLoginAt));
+                ps.setLong(2, row.getValue().count);
+                ps.setLong(3, row.getKey());
+            });
+            flushedRows.add(rows.size());
+            log.debug("로그인 기록 저장: 이벤트 {}건 -> 사용자 {}명", events.size(), rows.size());
+        } catch (Exception e) {
+            failedEvents.add(events.size());
+            log.warn("로그인 기록 저장 실패 ({}건): {}", events.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flush(); // 남은 기록 저장
+    }
+
+    private static final class Coalesced {
+        private LocalDateTime lastLoginAt;
+        private long count;
+
+        private void add(LocalDateTime loggedInAt) {
+            if (lastLoginAt == null || loggedInAt.isAfter(lastLoginAt)) {
+                lastLoginAt = loggedInAt;
+            }
+            count++;
+        }
+    }
+}
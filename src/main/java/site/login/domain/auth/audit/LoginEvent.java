@@ -0,0 +1,15 @@
+package site.login.domain.auth.audit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 로그인 1회 기록
+@Getter
+@RequiredArgsConstructor
+public class LoginEvent {
+
+    private final Long userId;
+    private final LocalDateTime loggedInAt;
+}
@@ -2,14 +2,23 @@ package site.login.domain.auth.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import site.login.domain.auth.dto.LoginRequestDto;
 import site.login.domain.auth.dto.LoginResponseDto;
+import site.login.domain.auth.dto.RefreshRequestDto;
 import site.login.domain.auth.dto.SignUpRequestDto;
+import site.login.domain.auth.ratelimit.ClientIpResolver;
+import site.login.domain.auth.ratelimit.LoginRateLimiter;
 import site.login.domain.auth.service.AuthService;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.metrics.AuthMetrics;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.Locale;
 
 @Slf4j
 @RestController
@@ -18,39 +27,86 @@ import jakarta.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final AuthMetrics authMetrics;
 
     /**
      * 회원가입
      */
     @PostMapping("/signup")
     public ResponseEntity<String> signUp(@Valid @RequestBody SignUpRequestDto signUpRequestDto) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
         try {
             authService.signUp(signUpRequestDto);
+            outcome = "success";
             return ResponseEntity.ok("회원가입이 완료되었습니다.");
         } catch (IllegalArgumentException e) {
+            outcome = "failure";
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (CustomException e) {
+            outcome = outcome(e);
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
         } catch (Exception e) {
             log.error("회원가입 중 오류 발생", e);
             return ResponseEntity.internalServerError().body("회원가입 중 오류가 발생했습니다.");
+        } finally {
+            authMetrics.recordSignUp(outcome, System.nanoTime() - startedAt);
         }
     }
 
     /**
-     * 로그인
+     * 로그인 (IP/이메일별 시도 횟수 제한을 먼저 검사)
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto loginRequestDto) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
         try {
+            loginRateLimiter.check(clientIpResolver.resolve(request), loginRequestDto.getEmail());
             LoginResponseDto loginResponse = authService.login(loginRequestDto);
+            outcome = "success";
             return ResponseEntity.ok(loginResponse);
         } catch (IllegalArgumentException e) {
+            outcome = "failure";
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (CustomException e) {
+            outcome = outcome(e);
+            // 요청 제한(429)은 다른 에러 응답과 같은 ApiResponse 본문으로 (GlobalExceptionHandler -> ErrorResponseWriter)
+            if (e.getErrorCode() == ErrorCode.TOO_MANY_LOGIN_ATTEMPTS) {
+                throw e;
+            }
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
         } catch (Exception e) {
             log.error("로그인 중 오류 발생", e);
             return ResponseEntity.internalServerError().body("로그인 중 오류가 발생했습니다.");
+        } finally {
+            authMetrics.recordLogin(outcome, System.nanoTime() - startedAt);
         }
     }
 
+    /**
+     * 토큰 재발급 (리프레시 토큰 교체)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshRequestDto refreshRequestDto) {
+        try {
+            LoginResponseDto loginResponse = authService.refresh(refreshRequestDto);
+            return ResponseEntity.ok(loginResponse);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (Exception e) {
+            log.error("토큰 재발급 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body("토큰 재발급 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 메트릭 태그 (too_many_login_attempts, duplicate_email, password_hashing_busy 등)
+    private static String outcome(CustomException e) {
+        return e.getErrorCode().name().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * 헬스체크 (테스트용)
      */
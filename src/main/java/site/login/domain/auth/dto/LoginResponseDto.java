@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public  class LoginResponseDto {
     private String token;
+    private String refreshToken;
     private String email;
     private String name;
     private String role;
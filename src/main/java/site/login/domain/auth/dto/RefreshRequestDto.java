@@ -0,0 +1,18 @@
+package site.login.domain.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 토큰 재발급 요청 DTO
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshRequestDto {
+
+    @NotBlank(message = "리프레시 토큰은 필수입니다.")
+    private String refreshToken;
+}
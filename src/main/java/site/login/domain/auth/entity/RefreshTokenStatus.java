@@ -0,0 +1,7 @@
+package site.login.domain.auth.entity;
+
+public enum RefreshTokenStatus {
+    ACTIVE,     // 사용 가능
+    ROTATED,    // 이미 새 토큰으로 교체됨 (다시 쓰이면 탈취로 판단)
+    REVOKED     // 폐기됨
+}
@@ -0,0 +1,30 @@
+package site.login.domain.auth.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 메모리 요청 제한 저장소 (기본값)
+ * 정책마다 고정 크기 버킷 테이블 하나 사용 (width 16384 -> 정책당 키 16384개, 약 256KB)
+ */
+@Component
+@ConditionalOnProperty(name = "login.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Map<String, TokenBucketSketch> sketches = new ConcurrentHashMap<>();
+    private final int width;
+
+    public LocalRateLimitStore(@Value("${login.rate-limit.sketch-width:16384}") int width) {
+        this.width = width;
+    }
+
+    @Override
+    public boolean tryConsume(RateLimitPolicy policy, String key) {
+        return sketches.computeIfAbsent(policy.getName(), name -> new TokenBucketSketch(policy, width))
+                .tryConsume(key, System.currentTimeMillis());
+    }
+}
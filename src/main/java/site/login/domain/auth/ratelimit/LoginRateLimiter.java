@@ -0,0 +1,69 @@
+package site.login.domain.auth.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.logging.AuthEventType;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한 (IP별 + 이메일별 토큰 버킷)
+ * DB 조회, 비밀번호 해시 전에 검사해서 초과 요청은 바로 거절
+ * 기본값: IP당 연속 20회 후 3초에 1회, 이메일당 연속 5회 후 1분에 1회
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimitStore store;
+    private final AuthEventLogger authEventLogger;
+    private final boolean enabled;
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy emailPolicy;
+
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+
+    public LoginRateLimiter(RateLimitStore store,
+                            AuthEventLogger authEventLogger,
+                            @Value("${login.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${login.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${login.rate-limit.ip.refill-interval-ms:3000}") long ipRefillIntervalMillis,
+                            @Value("${login.rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${login.rate-limit.email.refill-interval-ms:60000}") long emailRefillIntervalMillis) {
+        this.store = store;
+        this.authEventLogger = authEventLogger;
+        this.enabled = enabled;
+        this.ipPolicy = new RateLimitPolicy("ip", ipCapacity, ipRefillIntervalMillis);
+        this.emailPolicy = new RateLimitPolicy("email", emailCapacity, emailRefillIntervalMillis);
+    }
+
+    // 제한 초과 시 CustomException(TOO_MANY_LOGIN_ATTEMPTS)
+    public void check(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        // IP에서 거절되면 이메일 버킷은 소비하지 않음
+        if (clientIp != null && !store.tryConsume(ipPolicy, clientIp)) {
+            rejectedByIp.increment();
+            authEventLogger.log(AuthEventType.LOGIN_RATE_LIMITED, clientIp, "ip");
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (email != null && !store.tryConsume(emailPolicy, email.trim().toLowerCase(Locale.ROOT))) {
+            rejectedByEmail.increment();
+            authEventLogger.log(AuthEventType.LOGIN_RATE_LIMITED, email, "email");
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    public long getRejectedByIpCount() {
+        return rejectedByIp.sum();
+    }
+
+    public long getRejectedByEmailCount() {
+        return rejectedByEmail.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package site.login.domain.auth.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 토큰 버킷 정책
+ * capacity: 연속으로 허용하는 최대 시도 횟수
+ * refillIntervalMillis: 토큰 1개가 다시 채워지는 시간
+ */
+@Getter
+public class RateLimitPolicy {
+
+    private final String name;
+    private final int capacity;
+    private final long refillIntervalMillis;
+
+    public RateLimitPolicy(String name, int capacity, long refillIntervalMillis) {
+        if (capacity <= 0 || refillIntervalMillis <= 0) {
+            throw new IllegalArgumentException("잘못된 요청 제한 설정입니다: " + name);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.refillIntervalMillis = refillIntervalMillis;
+    }
+}
@@ -0,0 +1,11 @@
+package site.login.domain.auth.ratelimit;
+
+/**
+ * 요청 제한 저장소 (login.rate-limit.store=local|redis)
+ * local: 서버별 메모리 스케치, redis: 여러 서버가 공유
+ */
+public interface RateLimitStore {
+
+    // key의 버킷에서 토큰 1개 소비 (토큰이 없으면 false)
+    boolean tryConsume(RateLimitPolicy policy, String key);
+}
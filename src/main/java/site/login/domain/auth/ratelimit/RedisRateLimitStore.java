@@ -0,0 +1,62 @@
+package site.login.domain.auth.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 요청 제한 저장소 (login.rate-limit.store=redis, 여러 서버가 같은 버킷 공유)
+ * 토큰 계산과 소비를 Lua 스크립트 한 번으로 처리 (왕복 1회, 원자적)
+ * 키는 마지막 사용 후 버킷이 가득 찰 시간이 지나면 자동 만료
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "login.rate-limit.store", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "login-rate:";
+
+    private static final DefaultRedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local interval = tonumber(ARGV[2]) " +
+            "local now = tonumber(ARGV[3]) " +
+            "local state = redis.call('HMGET', KEYS[1], 't', 'ts') " +
+            "local tokens = tonumber(state[1]) " +
+            "local ts = tonumber(state[2]) " +
+            "if tokens == nil or ts == nil then tokens = capacity ts = now end " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) / interval) " +
+            "local allowed = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 allowed = 1 end " +
+            "redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) * interval) + 1000) " +
+            "return allowed",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRateLimitStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryConsume(RateLimitPolicy policy, String key) {
+        try {
+            Long allowed = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(KEY_PREFIX + policy.getName() + ":" + key),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(policy.getRefillIntervalMillis()),
+                    String.valueOf(System.currentTimeMillis()));
+            return allowed == null || allowed == 1L;
+        } catch (DataAccessException e) {
+            // Redis 장애 시 로그인 자체를 막지 않음 (비밀번호 해시 대기열 제한은 그대로 적용)
+            log.warn("요청 제한 저장소 오류 - 제한 없이 허용: {}", e.getMessage());
+            return true;
+        }
+    }
+}
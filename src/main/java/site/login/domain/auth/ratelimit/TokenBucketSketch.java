@@ -0,0 +1,92 @@
+package site.login.domain.auth.ratelimit;
+
+import site.login.global.util.SipHash;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고정 크기 토큰 버킷 테이블 (키 수와 관계없이 메모리 일정)
+ * 키마다 자기 버킷을 가짐 (칸을 여러 키가 나눠 쓰지 않으므로 다른 키를 소비해도 내 버킷은 줄지 않음)
+ * 키 -> (SET_SIZE칸짜리 묶음, 64비트 지문): 서버 시작마다 새로 만드는 키로 SipHash -> 충돌하는 키를 미리 만들 수 없음
+ * 묶음이 가득 차면 토큰이 가장 많이 남은(= 새 버킷과 가장 비슷한) 칸을 교체
+ * -> 많은 키를 뿌려도 소진된 버킷은 가장 늦게 밀려남
+ * 칸 하나 = long 하나: 상위 40비트 마지막 갱신 시각(ms), 하위 24비트 남은 토큰(1/1000 단위)
+ */
+final class TokenBucketSketch {
+
+    static final int SET_SIZE = 4;
+    private static final int LOCK_STRIPES = 256;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long TOKEN_SCALE = 1000; // 토큰 1개 = 1000
+
+    private final SipHash sipHash;
+    private final long[] fingerprints; // 0 = 빈 칸
+    private final long[] cells;
+    private final Object[] locks;
+    private final int setMask;
+    private final long capacity;      // TOKEN_SCALE 단위
+    private final long refillIntervalMillis;
+    private final long epochMillis = System.currentTimeMillis() - 1;
+
+    TokenBucketSketch(RateLimitPolicy policy, int width) {
+        this(policy, width, SipHash.randomKey());
+    }
+
+    TokenBucketSketch(RateLimitPolicy policy, int width, SipHash sipHash) {
+        if (policy.getCapacity() * TOKEN_SCALE > TOKEN_MASK) {
+            throw new IllegalArgumentException("버킷 용량이 너무 큽니다: " + policy.getCapacity());
+        }
+        int slots = Integer.highestOneBit(Math.max(width, 64));
+        this.sipHash = sipHash;
+        this.fingerprints = new long[slots];
+        this.cells = new long[slots];
+        this.setMask = slots / SET_SIZE - 1;
+        this.locks = new Object[Math.min(LOCK_STRIPES, slots / SET_SIZE)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.capacity = policy.getCapacity() * TOKEN_SCALE;
+        this.refillIntervalMillis = policy.getRefillIntervalMillis();
+    }
+
+    boolean tryConsume(String key, long nowMillis) {
+        long now = Math.max(1, nowMillis - epochMillis);
+        long hash = sipHash.hash(key.getBytes(StandardCharsets.UTF_8));
+        long fingerprint = hash != 0 ? hash : 1;
+        int set = (int) (hash >>> 32) & setMask;
+        int base = set * SET_SIZE;
+
+        synchronized (locks[set % locks.length]) {
+            int victim = base;
+            long victimTokens = -1;
+            for (int slot = base; slot < base + SET_SIZE; slot++) {
+                if (fingerprints[slot] == fingerprint) {
+                    long tokens = tokens(cells[slot], now);
+                    if (tokens < TOKEN_SCALE) {
+                        return false;
+                    }
+                    cells[slot] = (now << TOKEN_BITS) | (tokens - TOKEN_SCALE);
+                    return true;
+                }
+                long tokens = fingerprints[slot] == 0 ? Long.MAX_VALUE : tokens(cells[slot], now);
+                if (tokens > victimTokens) {
+                    victim = slot;
+                    victimTokens = tokens;
+                }
+            }
+            // 처음 보는 키 (또는 밀려났던 키) -> 가득 찬 버킷에서 1개 소비
+            fingerprints[victim] = fingerprint;
+            cells[victim] = (now << TOKEN_BITS) | (capacity - TOKEN_SCALE);
+            return true;
+        }
+    }
+
+    // 경과 시간만큼 채운 현재 토큰 수
+    private long tokens(long cell, long now) {
+        long updatedAt = cell >>> TOKEN_BITS;
+        long elapsed = Math.max(0, now - updatedAt);
+        long refilled = (cell & TOKEN_MASK) + elapsed * TOKEN_SCALE / refillIntervalMillis;
+        return Math.min(capacity, refilled);
+    }
+}
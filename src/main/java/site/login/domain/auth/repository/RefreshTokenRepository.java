@@ -0,0 +1,50 @@
+package site.login.domain.auth.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import site.login.domain.auth.entity.RefreshToken;
+import site.login.domain.auth.entity.RefreshTokenStatus;
+import site.login.global.config.IndexedBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // 만료되지 않은 토큰 전체 (시작 시 인메모리 인덱스 재구성용)
+    @IndexedBy(table = "refresh_tokens", columns = "expires_at")
+    List<RefreshToken> findAllByExpiresAtAfter(LocalDateTime now);
+
+    // 토큰 해시로 조회 (다른 서버에서 발급되어 이 서버 인덱스에 없는 토큰)
+    @IndexedBy(table = "refresh_tokens", columns = "token_hash")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 토큰 상태 변경 (ACTIVE -> ROTATED)
+    @Modifying
+    @Query("update RefreshToken r set r.status = :status where r.tokenHash = :tokenHash and r.status = site.login.domain.auth.entity.RefreshTokenStatus.ACTIVE")
+    @IndexedBy(table = "refresh_tokens", columns = "token_hash")
+    int updateActiveStatus(@Param("tokenHash") String tokenHash, @Param("status") RefreshTokenStatus status);
+
+    // 토큰 묶음 전체 폐기
+    @Modifying
+    @Query("update RefreshToken r set r.status = site.login.domain.auth.entity.RefreshTokenStatus.REVOKED where r.familyId = :familyId")
+    @IndexedBy(table = "refresh_tokens", columns = "family_id")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    // 사용자의 토큰 전체 폐기
+    @Modifying
+    @Query("update RefreshToken r set r.status = site.login.domain.auth.entity.RefreshTokenStatus.REVOKED where r.userId = :userId")
+    @IndexedBy(table = "refresh_tokens", columns = "user_id")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    // 만료된 토큰 정리
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    @IndexedBy(table = "refresh_tokens", columns = "expires_at")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
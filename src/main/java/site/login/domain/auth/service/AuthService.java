@@ -3,6 +3,7 @@ package site.login.domain.auth.service;
 import site.login.domain.auth.dto.SignUpRequestDto;
 import site.login.domain.auth.dto.LoginRequestDto;
 import site.login.domain.auth.dto.LoginResponseDto;
+import site.login.domain.auth.dto.RefreshRequestDto;
 
 public interface AuthService {
     
@@ -11,4 +12,7 @@ public interface AuthService {
     
     // 로그인
     LoginResponseDto login(LoginRequestDto loginRequestDto);
+    
+    // 토큰 재발급 (리프레시 토큰 교체)
+    LoginResponseDto refresh(RefreshRequestDto refreshRequestDto);
 }
\ No newline at end of file
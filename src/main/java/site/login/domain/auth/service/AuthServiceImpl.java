@@ -2,16 +2,33 @@ package site.login.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import site.login.domain.auth.audit.LoginAuditPipeline;
 import site.login.domain.auth.dto.LoginRequestDto;
 import site.login.domain.auth.dto.LoginResponseDto;
+import site.login.domain.auth.dto.RefreshRequestDto;
 import site.login.domain.auth.dto.SignUpRequestDto;
+import site.login.domain.user.cache.RegisteredEmailFilter;
+import site.login.domain.user.cache.UserCache;
+import site.login.domain.user.cache.UserSnapshot;
 import site.login.domain.user.entity.Role;
 import site.login.domain.user.entity.User;
 import site.login.domain.user.repository.UserRepository;
+import site.login.domain.user.service.UserService;
+import site.login.global.datasource.DataSourceRouting;
+import site.login.global.datasource.ReadYourWritesTracker;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
 import site.login.global.jwt.JwtUtil;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.logging.AuthEventType;
+import site.login.global.util.DataIntegrityUtil;
+import site.login.global.util.PasswordUtil;
+import site.login.global.util.TransactionUtil;
+
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -19,27 +36,32 @@ import site.login.global.jwt.JwtUtil;
 @Transactional(readOnly = true)
 public class AuthServiceImpl implements AuthService {
 
+    // 없는 이메일과 틀린 비밀번호를 구분하지 않음 (가입 여부 노출 방지)
+    private static final String LOGIN_FAILED_MESSAGE = "이메일 또는 비밀번호가 일치하지 않습니다.";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final UserService userService;
+    private final PasswordUtil passwordUtil;
     private final JwtUtil jwtUtil;
+    private final LoginAuditPipeline loginAuditPipeline;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthEventLogger authEventLogger;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     /**
      * 회원가입
+     * 중복 확인 조회 없이 바로 INSERT (users.email 유니크 인덱스가 중복을 막음)
+     * 동시에 같은 이메일로 가입해도 한 건만 성공하고 나머지는 409(DUPLICATE_EMAIL)
      */
     @Override
     @Transactional
     public void signUp(SignUpRequestDto signUpRequestDto) {
-        log.info("회원가입 시도: {}", signUpRequestDto.getEmail());
-        
-        // 1. 이메일 중복 확인
-        if (userRepository.existsByEmail(signUpRequestDto.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
-        }
-        
-        // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(signUpRequestDto.getPassword());
+        // 1. 비밀번호 암호화
+        String encodedPassword = passwordUtil.encode(signUpRequestDto.getPassword());
         
-        // 3. User 엔티티 생성
+        // 2. User 엔티티 생성
         User user = User.builder()
                 .email(signUpRequestDto.getEmail())
                 .password(encodedPassword)
@@ -47,9 +69,20 @@ public class AuthServiceImpl implements AuthService {
                 .role(Role.USER)
                 .build();
         
-        // 4. 사용자 저장
-        userRepository.save(user);
-        log.info("회원가입 완료: {}", signUpRequestDto.getEmail());
+        // 3. 사용자 저장 (즉시 flush해서 중복 여부를 이 메서드 안에서 확인)
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (DataIntegrityUtil.isDuplicateKey(e, User.EMAIL_UNIQUE_CONSTRAINT)) {
+                authEventLogger.log(AuthEventType.SIGNUP_DUPLICATE, signUpRequestDto.getEmail());
+                throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            throw e;
+        }
+        authEventLogger.log(AuthEventType.SIGNUP_SUCCESS, signUpRequestDto.getEmail());
+        
+        // 가입 직후 로그인은 레플리카 복제 전이어도 프라이머리에서 조회 (응답 쿠키로 마지막 쓰기 시각 전달)
+        TransactionUtil.afterCommit(readYourWritesTracker::markWritten);
     }
 
     /**
@@ -57,25 +90,74 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public LoginResponseDto login(LoginRequestDto loginRequestDto) {
-        log.info("로그인 시도: {}", loginRequestDto.getEmail());
+        // 1. 이메일로 사용자 찾기 (가입 이메일 필터를 믿어도 되는 설정에서만 필터에 없으면 DB 조회 생략)
+        String email = loginRequestDto.getEmail();
+        Optional<UserSnapshot> found;
+        if (!registeredEmailFilter.mightExist(email)) {
+            found = Optional.empty();
+        } else if (readYourWritesTracker.isRecent()) {
+            found = DataSourceRouting.onPrimary(() -> userCache.findByEmail(email)); // 방금 가입한 클라이언트 (쿠키의 마지막 쓰기 시각)
+        } else {
+            found = userCache.findByEmail(email);
+        }
         
-        // 1. 이메일로 사용자 찾기
-        User user = userRepository.findByEmail(loginRequestDto.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이메일입니다."));
+        // 2. 비밀번호 확인 (사용자가 없거나 비밀번호가 없어도 같은 비용의 비교 수행)
+        UserSnapshot user = found.orElse(null);
+        boolean matched = user != null && user.getPassword() != null && !user.getPassword().isEmpty()
+                ? passwordUtil.matches(loginRequestDto.getPassword(), user.getPassword())
+                : passwordUtil.matchesDummy(loginRequestDto.getPassword());
+        if (!matched) {
+            authEventLogger.log(AuthEventType.LOGIN_FAILURE, loginRequestDto.getEmail());
+            throw new IllegalArgumentException(LOGIN_FAILED_MESSAGE);
+        }
         
-        // 2. 비밀번호 확인
-        if (!passwordEncoder.matches(loginRequestDto.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 틀렸습니다.");
+        // 2-1. 해시 cost가 현재 설정과 다르면 재해시 (실패해도 로그인은 계속)
+        if (passwordUtil.needsUpgrade(user.getPassword())) {
+            try {
+                userService.upgradePasswordHash(user.getId(), passwordUtil.encode(loginRequestDto.getPassword()));
+            } catch (Exception e) {
+                log.warn("비밀번호 해시 재생성 실패: {}", e.getMessage());
+            }
         }
         
-        // 3. JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getEmail());
+        // 3. JWT 토큰 생성 (액세스 토큰 + 리프레시 토큰)
+        String token = jwtUtil.generateToken(user);
+        String refreshToken = refreshTokenService.issue(user.getId());
         
-        log.info("로그인 성공: {}", loginRequestDto.getEmail());
+        // 로그인 기록 (비동기)
+        loginAuditPipeline.record(user.getId());
+        
+        authEventLogger.log(AuthEventType.LOGIN_SUCCESS, loginRequestDto.getEmail());
         
         // 4. 응답 DTO 생성
         return LoginResponseDto.builder()
                 .token(token)
+                .refreshToken(refreshToken)
+                .email(user.getEmail())
+                .name(user.getName())
+                .role(user.getRole().getKey())
+                .build();
+    }
+
+    /**
+     * 토큰 재발급 (HMAC 1회 + 메모리 조회, 비밀번호 해시 없음)
+     */
+    @Override
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public LoginResponseDto refresh(RefreshRequestDto refreshRequestDto) {
+        // 1. 리프레시 토큰 교체
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshRequestDto.getRefreshToken());
+        
+        // 2. 사용자 조회 (캐시 우선)
+        UserSnapshot user = userCache.findById(rotation.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        
+        // 3. 새 액세스 토큰 생성
+        String token = jwtUtil.generateToken(user);
+        
+        return LoginResponseDto.builder()
+                .token(token)
+                .refreshToken(rotation.getRefreshToken())
                 .email(user.getEmail())
                 .name(user.getName())
                 .role(user.getRole().getKey())
@@ -0,0 +1,138 @@
+package site.login.domain.auth.service;
+
+import org.springframework.stereotype.Component;
+import site.login.domain.auth.entity.RefreshTokenStatus;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 리프레시 토큰 인메모리 인덱스 (토큰 해시 -> 상태)
+ * 교체(rotate) / 재사용 감지 / 폐기 확인을 DB 조회 없이 처리
+ * 만료 시각 순으로 정렬된 집합을 함께 두어 만료 항목을 앞에서부터 제거
+ */
+@Component
+public class RefreshTokenIndex {
+
+    private final ConcurrentHashMap<String, Entry> byHash = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(Entry::getExpiresAt).thenComparing(Entry::getTokenHash));
+
+    public void put(String tokenHash, Long userId, String familyId, long expiresAt, RefreshTokenStatus status) {
+        Entry entry = new Entry(tokenHash, userId, familyId, expiresAt, status);
+        Entry previous = byHash.put(tokenHash, entry);
+        if (previous != null) {
+            byExpiry.remove(previous);
+        }
+        byExpiry.add(entry);
+    }
+
+    // 없을 때만 추가하고 인덱스에 있는 항목 반환 (같은 토큰을 동시에 DB에서 읽어 와도 항목은 하나)
+    public Entry putIfAbsent(String tokenHash, Long userId, String familyId, long expiresAt, RefreshTokenStatus status) {
+        Entry entry = new Entry(tokenHash, userId, familyId, expiresAt, status);
+        Entry previous = byHash.putIfAbsent(tokenHash, entry);
+        if (previous != null) {
+            return previous;
+        }
+        byExpiry.add(entry);
+        return entry;
+    }
+
+    // 만료되지 않은 항목 조회 (없으면 null)
+    public Entry get(String tokenHash) {
+        purgeExpired();
+        Entry entry = byHash.get(tokenHash);
+        if (entry == null || entry.expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return entry;
+    }
+
+    public void revokeFamily(String familyId) {
+        byHash.values().forEach(entry -> {
+            if (entry.familyId.equals(familyId)) {
+                entry.status.set(RefreshTokenStatus.REVOKED);
+            }
+        });
+    }
+
+    public void revokeAllByUserId(Long userId) {
+        byHash.values().forEach(entry -> {
+            if (entry.userId.equals(userId)) {
+                entry.status.set(RefreshTokenStatus.REVOKED);
+            }
+        });
+    }
+
+    public void clear() {
+        byHash.clear();
+        byExpiry.clear();
+    }
+
+    public int size() {
+        return byHash.size();
+    }
+
+    // 만료 시각이 지난 항목 제거 (정렬되어 있으므로 앞쪽만 확인)
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> it = byExpiry.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.expiresAt > now) {
+                break;
+            }
+            it.remove();
+            byHash.remove(entry.tokenHash, entry);
+        }
+    }
+
+    public static final class Entry {
+        private final String tokenHash;
+        private final Long userId;
+        private final String familyId;
+        private final long expiresAt;
+        private final AtomicReference<RefreshTokenStatus> status;
+
+        private Entry(String tokenHash, Long userId, String familyId, long expiresAt, RefreshTokenStatus status) {
+            this.tokenHash = tokenHash;
+            this.userId = userId;
+            this.familyId = familyId;
+            this.expiresAt = expiresAt;
+            this.status = new AtomicReference<>(status);
+        }
+
+        public String getTokenHash() {
+            return tokenHash;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public String getFamilyId() {
+            return familyId;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+
+        public RefreshTokenStatus getStatus() {
+            return status.get();
+        }
+
+        // ACTIVE -> 다른 상태로 한 번만 변경 (동시에 같은 토큰으로 요청하면 하나만 성공)
+        public boolean transition(RefreshTokenStatus next) {
+            return status.compareAndSet(RefreshTokenStatus.ACTIVE, next);
+        }
+
+        // 변경 취소 (DB 반영 실패 시)
+        public void restore(RefreshTokenStatus previous) {
+            status.set(previous);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package site.login.domain.auth.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import site.login.domain.auth.entity.RefreshToken;
+import site.login.domain.auth.entity.RefreshTokenStatus;
+import site.login.domain.auth.repository.RefreshTokenRepository;
+import site.login.global.util.TransactionUtil;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급 / 교체(rotation) / 폐기
+ * 원본 토큰은 클라이언트만 가지고, 서버에는 HMAC 해시만 저장
+ * 검증은 HMAC 1회 + 인메모리 인덱스 조회 (비밀번호 해시 없음)
+ * 인덱스는 서버별이므로 인덱스에 없는 토큰(다른 서버에서 발급, 마지막 재구성 이후 발급)은 DB에서 읽어 인덱스에 채움
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenIndex refreshTokenIndex;
+    private final long refreshExpiration;
+    private final Mac macPrototype; // 스레드마다 clone해서 사용
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               RefreshTokenIndex refreshTokenIndex,
+                               @Value("${jwt.secret}") String secret,
+                               @Value("${jwt.refresh-expiration:1209600000}") long refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenIndex = refreshTokenIndex;
+        this.refreshExpiration = refreshExpiration;
+        try {
+            this.macPrototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.macPrototype.init(new SecretKeySpec(
+                    ("refresh-token:" + secret).getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("리프레시 토큰 HMAC 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 시작 시 DB에서 만료되지 않은 토큰으로 인메모리 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIndex() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        List<RefreshToken> tokens = refreshTokenRepository.findAllByExpiresAtAfter(LocalDateTime.now());
+
+        refreshTokenIndex.clear();
+        for (RefreshToken token : tokens) {
+            refreshTokenIndex.put(token.getTokenHash(), token.getUserId(), token.getFamilyId(),
+                    toEpochMillis(token.getExpiresAt()), token.getStatus());
+        }
+        log.info("리프레시 토큰 인덱스 재구성 완료: {}건", tokens.size());
+    }
+
+    /**
+     * 새 로그인용 리프레시 토큰 발급 (로그인 트랜잭션(readOnly)과 분리)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String issue(Long userId) {
+        return save(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰 교체 (기존 토큰은 ROTATED, 같은 묶음으로 새 토큰 발급)
+     * 이미 교체된 토큰이 다시 사용되면 탈취로 보고 묶음 전체 폐기
+     * 인덱스는 서버별이므로 DB 상태 변경(ACTIVE -> ROTATED)이 실제로 1건 성공해야 교체
+     * (다른 서버에서 이미 교체/폐기된 토큰은 0건 -> 재사용으로 처리)
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String rawToken) {
+        String tokenHash = hash(rawToken);
+        RefreshTokenIndex.Entry indexed = refreshTokenIndex.get(tokenHash);
+        RefreshTokenIndex.Entry entry = indexed != null ? indexed : loadIntoIndex(tokenHash);
+        if (entry == null) {
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        if (!entry.transition(RefreshTokenStatus.ROTATED)) {
+            if (entry.getStatus() == RefreshTokenStatus.ROTATED) {
+                log.warn("리프레시 토큰 재사용 감지 - 사용자: {}, 묶음 폐기", entry.getUserId());
+                revokeFamily(entry.getFamilyId());
+            }
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        TransactionUtil.afterRollback(() -> entry.restore(RefreshTokenStatus.ACTIVE));
+
+        if (refreshTokenRepository.updateActiveStatus(tokenHash, RefreshTokenStatus.ROTATED) != 1) {
+            log.warn("다른 서버에서 교체/폐기된 리프레시 토큰 사용 - 사용자: {}, 묶음 폐기", entry.getUserId());
+            revokeFamily(entry.getFamilyId());
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        String newToken = save(entry.getUserId(), entry.getFamilyId());
+        return new Rotation(entry.getUserId(), newToken);
+    }
+
+    /**
+     * 사용자의 리프레시 토큰 전체 폐기 (비밀번호 변경 등)
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+        TransactionUtil.afterCommit(() -> refreshTokenIndex.revokeAllByUserId(userId));
+    }
+
+    // 인덱스에 없는 토큰을 DB 상태 그대로 인덱스에 추가 (없거나 만료됐으면 null)
+    private RefreshTokenIndex.Entry loadIntoIndex(String tokenHash) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+        if (token == null) {
+            return null;
+        }
+        long expiresAt = toEpochMillis(token.getExpiresAt());
+        if (expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return refreshTokenIndex.putIfAbsent(tokenHash, token.getUserId(), token.getFamilyId(), expiresAt, token.getStatus());
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenIndex.revokeFamily(familyId);
+        refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    private String save(Long userId, String familyId) {
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        String tokenHash = hash(rawToken);
+        long expiresAt = System.currentTimeMillis() + refreshExpiration;
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .status(RefreshTokenStatus.ACTIVE)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault()))
+                .build());
+
+        TransactionUtil.afterCommit(() ->
+                refreshTokenIndex.put(tokenHash, userId, familyId, expiresAt, RefreshTokenStatus.ACTIVE));
+        return rawToken;
+    }
+
+    private String hash(String rawToken) {
+        try {
+            Mac mac = (Mac) macPrototype.clone();
+            byte[] digest = mac.doFinal(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("리프레시 토큰 HMAC 생성 실패", e);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 교체 결과 (사용자 ID + 새 리프레시 토큰)
+    @Getter
+    @RequiredArgsConstructor
+    public static class Rotation {
+        private final Long userId;
+        private final String refreshToken;
+    }
+}
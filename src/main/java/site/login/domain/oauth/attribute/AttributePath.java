@@ -0,0 +1,36 @@
+package site.login.domain.oauth.attribute;
+
+import java.util.Map;
+
+// 점으로 구분된 속성 경로를 한 번만 분리해 두고 재사용하는 접근자
+final class AttributePath {
+
+    private final String[] keys;
+
+    private AttributePath(String[] keys) {
+        this.keys = keys;
+    }
+
+    static AttributePath compile(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        return new AttributePath(path.trim().split("\\."));
+    }
+
+    // 경로의 값 (없거나 빈 문자열이면 null)
+    String read(Map<String, Object> attributes) {
+        Object current = attributes;
+        for (String key : keys) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<?, ?>) current).get(key);
+        }
+        if (current == null) {
+            return null;
+        }
+        String value = current.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+}
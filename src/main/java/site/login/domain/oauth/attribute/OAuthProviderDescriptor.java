@@ -0,0 +1,33 @@
+package site.login.domain.oauth.attribute;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 제공자별 사용자 정보 속성 경로 ("kakao_account.profile.nickname" 처럼 점으로 구분)
+ * nameAttributes는 앞에서부터 값이 있는 첫 번째 속성 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class OAuthProviderDescriptor {
+
+    private String idAttribute;
+    private List<String> nameAttributes = new ArrayList<>();
+    private String emailAttribute;
+    private String defaultId;      // ID가 없을 때 사용할 값 (없으면 null)
+    private String defaultName;    // 이름이 없을 때 사용할 값 (없으면 null)
+
+    public OAuthProviderDescriptor(String idAttribute, List<String> nameAttributes, String emailAttribute,
+                                   String defaultId, String defaultName) {
+        this.idAttribute = idAttribute;
+        this.nameAttributes = new ArrayList<>(nameAttributes);
+        this.emailAttribute = emailAttribute;
+        this.defaultId = defaultId;
+        this.defaultName = defaultName;
+    }
+}
@@ -0,0 +1,43 @@
+package site.login.domain.oauth.attribute;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 제공자 속성 설정 (기본값: google, kakao, naver)
+ * 새 제공자는 설정만 추가하면 됨
+ *
+ * oauth2:
+ *   attributes:
+ *     providers:
+ *       github:
+ *         id-attribute: id
+ *         name-attributes: [name, login]
+ *         email-attribute: email
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "oauth2.attributes")
+public class OAuthProviderProperties {
+
+    private Map<String, OAuthProviderDescriptor> providers = new LinkedHashMap<>(defaults());
+
+    // 기본 제공자 (설정에 같은 이름이 있으면 설정값 사용)
+    public static Map<String, OAuthProviderDescriptor> defaults() {
+        Map<String, OAuthProviderDescriptor> defaults = new LinkedHashMap<>();
+        defaults.put("google", new OAuthProviderDescriptor(
+                "sub", List.of("name"), "email", null, null));
+        defaults.put("kakao", new OAuthProviderDescriptor(
+                "id", List.of("kakao_account.profile.nickname"), "kakao_account.email", null, "카카오사용자"));
+        defaults.put("naver", new OAuthProviderDescriptor(
+                "response.id", List.of("response.name", "response.nickname"), "response.email", "naver_unknown_id", "네이버사용자"));
+        return defaults;
+    }
+}
@@ -0,0 +1,85 @@
+package site.login.domain.oauth.attribute;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import site.login.domain.oauth.dto.OAuthUserInfo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 제공자별 사용자 정보 추출기 저장소
+ * 설정의 속성 경로를 시작 시 한 번 컴파일하고, 로그인마다 한 번만 읽어 OAuthUserInfo 생성
+ */
+@Slf4j
+@Component
+public class OAuthUserInfoRegistry {
+
+    private final Map<String, Extractor> extractors = new HashMap<>();
+
+    public OAuthUserInfoRegistry(OAuthProviderProperties properties) {
+        properties.getProviders().forEach((provider, descriptor) ->
+                extractors.put(provider.toLowerCase(Locale.ROOT), new Extractor(provider.toLowerCase(Locale.ROOT), descriptor)));
+        log.info("소셜 로그인 제공자 등록: {}", extractors.keySet());
+    }
+
+    public OAuthUserInfo extract(String provider, Map<String, Object> attributes) {
+        if (attributes == null || attributes.isEmpty()) {
+            throw new IllegalArgumentException("사용자 정보가 비어있습니다.");
+        }
+        Extractor extractor = extractors.get(provider);
+        if (extractor == null) {
+            extractor = extractors.get(provider.toLowerCase(Locale.ROOT));
+        }
+        if (extractor == null) {
+            throw new IllegalArgumentException("지원하지 않는 소셜 로그인 제공자입니다: " + provider);
+        }
+        return extractor.extract(attributes);
+    }
+
+    public boolean supports(String provider) {
+        return extractors.containsKey(provider.toLowerCase(Locale.ROOT));
+    }
+
+    private static final class Extractor {
+        private final String provider;
+        private final AttributePath id;
+        private final AttributePath[] names;
+        private final AttributePath email;
+        private final String defaultId;
+        private final String defaultName;
+
+        private Extractor(String provider, OAuthProviderDescriptor descriptor) {
+            if (descriptor.getIdAttribute() == null) {
+                throw new IllegalStateException("소셜 로그인 제공자 설정에 id-attribute가 없습니다: " + provider);
+            }
+            List<String> nameAttributes = descriptor.getNameAttributes();
+            this.provider = provider;
+            this.id = AttributePath.compile(descriptor.getIdAttribute());
+            this.names = nameAttributes.stream().map(AttributePath::compile).toArray(AttributePath[]::new);
+            this.email = AttributePath.compile(descriptor.getEmailAttribute());
+            this.defaultId = descriptor.getDefaultId();
+            this.defaultName = descriptor.getDefaultName();
+        }
+
+        private OAuthUserInfo extract(Map<String, Object> attributes) {
+            String idValue = id.read(attributes);
+            String nameValue = null;
+            for (AttributePath name : names) {
+                if (name != null && (nameValue = name.read(attributes)) != null) {
+                    break;
+                }
+            }
+            String emailValue = email != null ? email.read(attributes) : null;
+
+            return new OAuthUserInfo(
+                    provider,
+                    idValue != null ? idValue : defaultId,
+                    nameValue != null ? nameValue : defaultName,
+                    emailValue
+            );
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package site.login.domain.oauth.dto;
 
-import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
-public abstract class OAuthUserInfo {
-    protected Map<String, Object> attributes;
+// 제공자 응답에서 추출한 사용자 정보 (불변, 로그인 1회당 1개 생성)
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OAuthUserInfo {
 
-    public OAuthUserInfo(Map<String, Object> attributes) {
-        this.attributes = attributes;
-    }
-
-    public abstract String getId();
-    public abstract String getName();
-    public abstract String getEmail();
-    public abstract String getProvider();
-}
\ No newline at end of file
+    private final String provider;
+    private final String id;
+    private final String name;
+    private final String email;
+}
@@ -1,22 +1,51 @@
 package site.login.domain.oauth.service;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.user.OAuth2User;
+import site.login.domain.user.entity.Role;
 import site.login.domain.user.entity.User;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
+/**
+ * 소셜 로그인 인증 주체 (저장된 사용자 정보 포함, 불변)
+ * 성공 핸들러가 DB 조회 없이 바로 JWT를 발급할 수 있도록 CustomOAuth2UserService에서 생성
+ */
 @Getter
-@RequiredArgsConstructor
-public class CustomOAuth2User implements OAuth2User {
+public class CustomOAuth2User implements OAuth2User, Serializable {
 
-    private final User user;
+    private static final long serialVersionUID = 1L;
+
+    private final Long userId;
+    private final String email;
+    private final String userName;
+    private final Role role;
+    private final String provider;
+    private final String providerId;
+    private final int tokenVersion;
     private final Map<String, Object> attributes;
+    private final String principalName; // 제공자 응답의 사용자 식별값 (OAuth2User.getName())
+
+    private CustomOAuth2User(User user, Map<String, Object> attributes, String principalName) {
+        this.userId = user.getId();
+        this.email = user.getEmail();
+        this.userName = user.getName();
+        this.role = user.getRole();
+        this.provider = user.getProvider();
+        this.providerId = user.getProviderId();
+        this.tokenVersion = user.getCurrentTokenVersion();
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.principalName = principalName;
+    }
+
+    public static CustomOAuth2User of(User user, Map<String, Object> attributes, String principalName) {
+        return new CustomOAuth2User(user, attributes, principalName);
+    }
 
     @Override
     public Map<String, Object> getAttributes() {
@@ -26,29 +55,22 @@ public class CustomOAuth2User implements OAuth2User {
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(
-                new SimpleGrantedAuthority(user.getRole().getKey())
+                new SimpleGrantedAuthority(role.getKey())
         );
     }
 
     @Override
     public String getName() {
-        return user.getEmail(); // OAuth2User의 name으로 이메일 사용
-    }
-
-    // 추가 편의 메서드들
-    public String getEmail() {
-        return user.getEmail();
-    }
-
-    public String getUserName() {
-        return user.getName();
+        return principalName;
     }
 
-    public String getProvider() {
-        return user.getProvider();
+    // 이메일 보유 여부 (카카오 무료 버전 등은 없을 수 있음)
+    public boolean hasEmail() {
+        return email != null && !email.isEmpty();
     }
 
-    public Long getUserId() {
-        return user.getId();
+    // JWT subject (이메일이 없으면 provider_providerId 사용)
+    public String getTokenSubject() {
+        return hasEmail() ? email : provider + "_" + providerId;
     }
-}
\ No newline at end of file
+}
@@ -1,48 +1,87 @@
 package site.login.domain.oauth.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+import site.login.domain.auth.audit.LoginAuditPipeline;
 import site.login.domain.oauth.dto.OAuthUserInfo;
-import site.login.domain.oauth.dto.OAuthUserInfoFactory;
-import site.login.domain.user.entity.Role;
+import site.login.domain.oauth.attribute.OAuthUserInfoRegistry;
 import site.login.domain.user.entity.User;
-import site.login.domain.user.repository.UserRepository;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.logging.AuthEventType;
+import site.login.global.metrics.AuthMetrics;
+import site.login.global.util.DataIntegrityUtil;
 
-import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
-    private final UserRepository userRepository;
+    private final OAuthUserInfoRegistry oAuthUserInfoRegistry;
+    private final OAuthUserUpsertService oAuthUserUpsertService;
+    private final LoginAuditPipeline loginAuditPipeline;
+    private final AuthEventLogger authEventLogger;
+    private final AuthMetrics authMetrics; // 제공자 API 호출 시간, 저장 트랜잭션 시간 (제공자별)
 
+    /**
+     * 제공자 사용자 정보 조회용 RestTemplate은 타임아웃을 지정해서 생성
+     * 요청 스레드(가상 스레드 모드에서는 가상 스레드)에서 그대로 블로킹 호출
+     */
+    public CustomOAuth2UserService(OAuthUserInfoRegistry oAuthUserInfoRegistry,
+                                   OAuthUserUpsertService oAuthUserUpsertService,
+                                   LoginAuditPipeline loginAuditPipeline,
+                                   AuthEventLogger authEventLogger,
+                                   AuthMetrics authMetrics,
+                                   @Value("${oauth2.user-info.connect-timeout-ms:3000}") int connectTimeoutMillis,
+                                   @Value("${oauth2.user-info.read-timeout-ms:5000}") int readTimeoutMillis) {
+        this.oAuthUserInfoRegistry = oAuthUserInfoRegistry;
+        this.oAuthUserUpsertService = oAuthUserUpsertService;
+        this.loginAuditPipeline = loginAuditPipeline;
+        this.authEventLogger = authEventLogger;
+        this.authMetrics = authMetrics;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        setRestOperations(restTemplate);
+    }
+
+    /**
+     * 1) 제공자 사용자 정보 조회 + 파싱 (트랜잭션 없음, DB 커넥션 사용 안 함)
+     * 2) 사용자 저장/업데이트 (OAuthUserUpsertService의 짧은 트랜잭션)
+     */
     @Override
-    @Transactional
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         try {
-            // 기본 OAuth2UserService를 사용하여 OAuth2User 정보 가져오기
-            OAuth2User oauth2User = super.loadUser(userRequest);
-            
+            // 기본 OAuth2UserService를 사용하여 OAuth2User 정보 가져오기 (제공자 API 호출)
             String provider = userRequest.getClientRegistration().getRegistrationId();
+            long fetchStartedAt = System.nanoTime();
+            OAuth2User oauth2User;
+            try {
+                oauth2User = super.loadUser(userRequest);
+            } finally {
+                authMetrics.recordProviderFetch(provider, System.nanoTime() - fetchStartedAt);
+            }
+            
             String userNameAttributeName = userRequest.getClientRegistration()
                     .getProviderDetails()
                     .getUserInfoEndpoint()
                     .getUserNameAttributeName();
                     
-            log.info("OAuth2 로그인 시도: {}", provider);
-            log.info("UserNameAttributeName: {}", userNameAttributeName);
+            log.debug("OAuth2 로그인 시도: {}, UserNameAttributeName: {}", provider, userNameAttributeName);
             log.debug("OAuth2 사용자 정보: {}", oauth2User.getAttributes());
             
             Map<String, Object> attributes = oauth2User.getAttributes();
@@ -57,34 +96,36 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                     principalNameValue = "temp_" + System.currentTimeMillis();
                     log.warn("ID 속성도 없음. 임시 ID 생성: {}", principalNameValue);
                 }
-                userNameAttributeName = "id";
             }
             
             // 제공자별 사용자 정보 추출
             OAuthUserInfo oAuthUserInfo;
             try {
-                oAuthUserInfo = OAuthUserInfoFactory.getOAuthUserInfo(provider, attributes);
+                oAuthUserInfo = oAuthUserInfoRegistry.extract(provider, attributes);
             } catch (Exception e) {
-                log.error("OAuth2 사용자 정보 추출 실패 - Provider: {}, Error: {}", provider, e.getMessage());
+                authEventLogger.log(AuthEventType.OAUTH_LOGIN_FAILURE, provider, e.getMessage());
                 throw new OAuth2AuthenticationException("사용자 정보를 가져올 수 없습니다: " + e.getMessage());
             }
             
-            log.info("추출된 정보 - Provider: {}, ID: {}, 이름: {}, 이메일: {}", 
+            log.debug("추출된 정보 - Provider: {}, ID: {}, 이름: {}, 이메일: {}", 
                     provider, oAuthUserInfo.getId(), oAuthUserInfo.getName(), 
                     oAuthUserInfo.getEmail() != null && !oAuthUserInfo.getEmail().isEmpty() ? oAuthUserInfo.getEmail() : "없음");
             
-            // 사용자 저장 또는 업데이트
-            User user = saveOrUpdateUser(oAuthUserInfo);
+            // 사용자 저장 또는 업데이트 (이 구간에서만 DB 커넥션 사용)
+            long upsertStartedAt = System.nanoTime();
+            User user;
+            try {
+                user = saveOrUpdateUser(oAuthUserInfo);
+            } finally {
+                authMetrics.recordOAuthUpsert(provider, System.nanoTime() - upsertStartedAt);
+            }
             
-            // 권한 설정
-            GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
+            // 로그인 기록 (비동기)
+            loginAuditPipeline.record(user.getId());
+            authEventLogger.log(AuthEventType.OAUTH_LOGIN_SUCCESS, provider, String.valueOf(user.getId()));
             
-            // DefaultOAuth2User로 반환 (principalName 보장)
-            return new DefaultOAuth2User(
-                    Collections.singleton(authority),
-                    attributes,
-                    userNameAttributeName
-            );
+            // 저장된 사용자 정보를 담은 인증 주체 반환 (성공 핸들러에서 DB 재조회 불필요)
+            return CustomOAuth2User.of(user, attributes, principalNameValue.toString());
             
         } catch (OAuth2AuthenticationException e) {
             // OAuth2AuthenticationException은 그대로 던짐
@@ -95,86 +136,23 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         }
     }
 
+    /**
+     * 같은 소셜 계정으로 동시에 처음 로그인하면 한 요청만 INSERT에 성공하고 나머지는 유니크 제약 위반
+     * 새 트랜잭션에서 한 번 더 시도하면 먼저 저장된 사용자를 찾아 업데이트 경로로 처리됨
+     * 기존 사용자를 동시에 업데이트한 경우(버전 충돌)도 새로 조회해서 한 번 더 시도
+     */
     private User saveOrUpdateUser(OAuthUserInfo oAuthUserInfo) {
-        // providerId가 null이거나 빈 문자열인 경우 처리
-        String providerId = oAuthUserInfo.getId();
-        String provider = oAuthUserInfo.getProvider();
-        
-        if (providerId == null || providerId.trim().isEmpty()) {
-            log.error("Provider ID가 비어있음: {}", oAuthUserInfo);
-            throw new OAuth2AuthenticationException("사용자 식별값을 가져올 수 없습니다.");
-        }
-        
-        Optional<User> existingUser = userRepository.findByProviderAndProviderId(provider, providerId);
-
-        User user;
-        if (existingUser.isPresent()) {
-            // 기존 사용자 정보 업데이트
-            user = existingUser.get();
-            user.updateName(oAuthUserInfo.getName());
-            
-            // 기존 사용자가 이메일이 없고 새로 받은 이메일이 있는 경우 업데이트
-            String newEmail = oAuthUserInfo.getEmail();
-            if ((user.getEmail() == null || user.getEmail().isEmpty()) && 
-                newEmail != null && !newEmail.trim().isEmpty()) {
-                user.updateEmail(newEmail);
-                user.completeProfile(); // 이메일이 추가되면 프로필 완성
-                log.info("기존 사용자 이메일 업데이트: {}", newEmail);
-            }
-            
-            log.info("기존 소셜 로그인 사용자 정보 업데이트: {}", 
-                    user.getEmail() != null ? user.getEmail() : "이메일 없음");
-        } else {
-            // 새 소셜 로그인 사용자 생성
-            String email = oAuthUserInfo.getEmail();
-            
-            // 카카오는 이제 이메일이 필수이므로 반드시 있어야 함
-            if ("kakao".equals(provider) && (email == null || email.trim().isEmpty())) {
-                log.error("카카오 로그인에서 이메일 정보를 받을 수 없음. Attributes: {}", oAuthUserInfo);
-                throw new OAuth2AuthenticationException("카카오 로그인에서 이메일 정보를 가져올 수 없습니다. 카카오 앱 설정을 확인해주세요.");
-            }
-            
-            // 이메일이 있는 경우 중복 체크
-            if (email != null && !email.trim().isEmpty()) {
-                Optional<User> emailUser = userRepository.findByEmail(email);
-                if (emailUser.isPresent()) {
-                    log.warn("이미 존재하는 이메일로 소셜 로그인 시도: {}", email);
-                    throw new OAuth2AuthenticationException("이미 존재하는 이메일입니다. 일반 로그인을 사용해주세요.");
-                }
-            } else {
-                // 다른 제공자(네이버, 구글 등)에서 이메일이 없는 경우에만 null 허용
-                if (!"kakao".equals(provider)) {
-                    email = null;
-                    log.info("이메일 정보 없는 소셜 로그인 ({}) - 나중에 추가 정보 입력 필요", provider);
-                }
-            }
-            
-            // 사용자 이름이 비어있는 경우 기본값 설정
-            String userName = oAuthUserInfo.getName();
-            if (userName == null || userName.trim().isEmpty()) {
-                userName = "사용자_" + providerId.substring(0, Math.min(providerId.length(), 8));
-                log.warn("사용자 이름이 비어있음. 기본값 설정: {}", userName);
+        try {
+            return oAuthUserUpsertService.saveOrUpdateUser(oAuthUserInfo);
+        } catch (DataIntegrityViolationException e) {
+            if (!DataIntegrityUtil.isDuplicateKey(e)) {
+                throw e;
             }
-            
-            // 프로필 완성 여부 결정
-            boolean isProfileComplete = email != null && !email.trim().isEmpty();
-            
-            user = User.builder()
-                    .email(email) // 카카오는 필수, 다른 제공자는 선택적
-                    .name(userName)
-                    .role(Role.USER)
-                    .provider(provider)
-                    .providerId(providerId)
-                    .password("") // 소셜 로그인 사용자는 비밀번호 없음
-                    .profileCompleted(isProfileComplete) // 이메일이 있으면 완성, 없으면 미완성
-                    .build();
-            
-            log.info("새 소셜 로그인 사용자 생성: {} ({}), 이메일: {}, 프로필완성: {}", 
-                    user.getName(), user.getProvider(), 
-                    user.getEmail() != null ? user.getEmail() : "없음",
-                    user.getProfileCompleted());
+            log.info("소셜 로그인 사용자 동시 생성 감지 - 재시도: {}", oAuthUserInfo.getProvider());
+            return oAuthUserUpsertService.saveOrUpdateUser(oAuthUserInfo);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("소셜 로그인 사용자 동시 수정 감지 - 재시도: {}", oAuthUserInfo.getProvider());
+            return oAuthUserUpsertService.saveOrUpdateUser(oAuthUserInfo);
         }
-
-        return userRepository.save(user);
     }
 }
\ No newline at end of file
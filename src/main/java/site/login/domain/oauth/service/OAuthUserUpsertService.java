@@ -0,0 +1,123 @@
+package site.login.domain.oauth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.login.domain.oauth.dto.OAuthUserInfo;
+import site.login.domain.user.entity.Role;
+import site.login.domain.user.entity.User;
+import site.login.domain.user.repository.UserRepository;
+
+import java.util.List;
+
+/**
+ * 소셜 로그인 사용자 저장/업데이트 (짧은 트랜잭션)
+ * 제공자 API 호출이 끝난 뒤에만 호출되므로 외부 호출 동안 DB 커넥션을 잡고 있지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OAuthUserUpsertService {
+
+    private final UserRepository userRepository;
+
+    @Transactional
+    public User saveOrUpdateUser(OAuthUserInfo oAuthUserInfo) {
+        // providerId가 null이거나 빈 문자열인 경우 처리
+        String providerId = oAuthUserInfo.getId();
+        String provider = oAuthUserInfo.getProvider();
+        
+        if (providerId == null || providerId.trim().isEmpty()) {
+            log.error("Provider ID가 비어있음: {}", oAuthUserInfo);
+            throw new OAuth2AuthenticationException("사용자 식별값을 가져올 수 없습니다.");
+        }
+        
+        String email = oAuthUserInfo.getEmail();
+        String emailKey = email != null && !email.trim().isEmpty() ? email : null;
+        
+        // 소셜 계정 + 같은 이메일 사용자를 한 번에 조회
+        List<User> candidates = userRepository.findByProviderAndProviderIdOrEmail(provider, providerId, emailKey);
+        User existingUser = null;
+        User emailOwner = null;
+        for (User candidate : candidates) {
+            if (provider.equals(candidate.getProvider()) && providerId.equals(candidate.getProviderId())) {
+                existingUser = candidate;
+            } else if (emailKey != null && emailKey.equals(candidate.getEmail())) {
+                emailOwner = candidate;
+            }
+        }
+
+        User user;
+        if (existingUser != null) {
+            // 기존 사용자 정보 업데이트
+            user = existingUser;
+            user.updateName(oAuthUserInfo.getName());
+            
+            // 기존 사용자가 이메일이 없고 새로 받은 이메일이 있는 경우 업데이트
+            if ((user.getEmail() == null || user.getEmail().isEmpty()) && emailKey != null) {
+                if (emailOwner != null) {
+                    log.warn("다른 사용자가 사용 중인 이메일이라 업데이트하지 않음: {}", emailKey);
+                } else {
+                    user.updateEmail(emailKey);
+                    user.completeProfile(); // 이메일이 추가되면 프로필 완성
+                    log.info("기존 사용자 이메일 업데이트: {}", emailKey);
+                }
+            }
+            
+            log.debug("기존 소셜 로그인 사용자 정보 업데이트: {}", 
+                    user.getEmail() != null ? user.getEmail() : "이메일 없음");
+            
+            // 관리 중인 엔티티이므로 커밋 시 변경 감지로 저장
+            return user;
+        }
+        
+        // 새 소셜 로그인 사용자 생성
+        
+        // 카카오는 이제 이메일이 필수이므로 반드시 있어야 함
+        if ("kakao".equals(provider) && emailKey == null) {
+            log.error("카카오 로그인에서 이메일 정보를 받을 수 없음. Attributes: {}", oAuthUserInfo);
+            throw new OAuth2AuthenticationException("카카오 로그인에서 이메일 정보를 가져올 수 없습니다. 카카오 앱 설정을 확인해주세요.");
+        }
+        
+        // 이메일이 있는 경우 중복 체크
+        if (emailOwner != null) {
+            log.warn("이미 존재하는 이메일로 소셜 로그인 시도: {}", emailKey);
+            throw new OAuth2AuthenticationException("이미 존재하는 이메일입니다. 일반 로그인을 사용해주세요.");
+        }
+        
+        if (emailKey == null) {
+            // 다른 제공자(네이버, 구글 등)에서 이메일이 없는 경우에만 null 허용
+            log.info("이메일 정보 없는 소셜 로그인 ({}) - 나중에 추가 정보 입력 필요", provider);
+        }
+        
+        // 사용자 이름이 비어있는 경우 기본값 설정
+        String userName = oAuthUserInfo.getName();
+        if (userName == null || userName.trim().isEmpty()) {
+            userName = "사용자_" + providerId.substring(0, Math.min(providerId.length(), 8));
+            log.warn("사용자 이름이 비어있음. 기본값 설정: {}", userName);
+        }
+        
+        // 프로필 완성 여부 결정
+        boolean isProfileComplete = emailKey != null;
+        
+        user = User.builder()
+                .email(emailKey) // 카카오는 필수, 다른 제공자는 선택적
+                .name(userName)
+                .role(Role.USER)
+                .provider(provider)
+                .providerId(providerId)
+                .password("") // 소셜 로그인 사용자는 비밀번호 없음
+                .profileCompleted(isProfileComplete) // 이메일이 있으면 완성, 없으면 미완성
+                .build();
+        
+        log.info("새 소셜 로그인 사용자 생성: {} ({}), 이메일: {}, 프로필완성: {}", 
+                user.getName(), user.getProvider(), 
+                user.getEmail() != null ? user.getEmail() : "없음",
+                user.getProfileCompleted());
+
+        // 즉시 flush (동시에 처음 로그인한 경우 유니크 제약 위반이 여기서 발생 -> 호출 측에서 재시도)
+        return userRepository.saveAndFlush(user);
+    }
+}
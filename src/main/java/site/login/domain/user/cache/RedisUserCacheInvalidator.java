@@ -0,0 +1,69 @@
+package site.login.domain.user.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 서버 간 UserCache 무효화 (user.cache.invalidation=redis)
+ * 커밋 이후 사용자 ID를 Redis 채널로 보내고, 모든 서버가 받아서 자기 UserCache에서 제거
+ * 보낸 서버도 함께 받음 (이미 제거했으므로 한 번 더 제거될 뿐)
+ * Redis 장애로 전달되지 않은 무효화는 TTL(user.cache.ttl-seconds)까지 이전 값 유지
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.cache.invalidation", havingValue = "redis")
+public class RedisUserCacheInvalidator implements MessageListener {
+
+    static final String CHANNEL = "user-cache-evict";
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserCache userCache;
+    private final RedisMessageListenerContainer container;
+
+    public RedisUserCacheInvalidator(StringRedisTemplate redisTemplate,
+                                     RedisConnectionFactory connectionFactory,
+                                     UserCache userCache) {
+        this.redisTemplate = redisTemplate;
+        this.userCache = userCache;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        this.container.afterPropertiesSet();
+        this.container.start();
+    }
+
+    // 커밋 이후 호출
+    public void publish(Long userId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("사용자 캐시 무효화 전파 실패 - 사용자: {}, 다른 서버는 TTL까지 이전 값 사용: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            userCache.evict(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        container.destroy();
+    }
+}
@@ -0,0 +1,148 @@
+package site.login.domain.user.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import site.login.global.util.ConcurrentBloomFilter;
+
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가입된 이메일 Bloom 필터
+ * 필터에 없는 이메일은 DB 조회 없이 "없는 사용자"로 판단 (로그인 스프레이 공격 시 DB 부하 감소)
+ *
+ * 이 서버의 JPA 저장(RegisteredEmailListener)만 바로 반영되므로, 다른 서버에서 가입했거나 SQL/JDBC로 넣은 이메일은
+ * 다음 재적재 전까지 필터에 없음 -> 필터를 믿어도 되는 경우에만 켬 (user.email-filter.authoritative=true)
+ * - 서버 1대이고 users 테이블을 이 서버의 JPA로만 변경하는 경우
+ * 꺼져 있으면(기본값) 모든 이메일을 "있을 수도 있음"으로 처리 (항상 DB 조회)
+ * 켜져 있으면 주기적으로 DB에서 다시 적재 (rebuild-interval-seconds)
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final boolean authoritative;
+    private final long rebuildIntervalSeconds;
+    private final ScheduledExecutorService rebuilder;
+
+    private volatile ConcurrentBloomFilter filter;
+    private volatile ConcurrentBloomFilter rebuilding; // 재적재 중인 필터 (그 사이 추가된 이메일도 함께 넣음)
+    private volatile boolean ready = false;
+
+    private final LongAdder filteredOut = new LongAdder(); // DB 조회 없이 거른 횟수
+
+    public RegisteredEmailFilter(JdbcTemplate jdbcTemplate,
+                                 @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${user.email-filter.fpp:0.01}") double fpp,
+                                 @Value("${user.email-filter.authoritative:false}") boolean authoritative,
+                                 @Value("${user.email-filter.rebuild-interval-seconds:300}") long rebuildIntervalSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.authoritative = authoritative;
+        this.rebuildIntervalSeconds = rebuildIntervalSeconds;
+        this.filter = new ConcurrentBloomFilter(expectedInsertions, fpp);
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-filter-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!authoritative) {
+            return;
+        }
+        rebuild();
+        ready = true;
+        if (rebuildIntervalSeconds > 0) {
+            rebuilder.scheduleWithFixedDelay(this::rebuildQuietly,
+                    rebuildIntervalSeconds, rebuildIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * DB에서 새 필터를 채운 뒤 기존 필터와 합쳐서 교체
+     * 적재 중 추가된 이메일은 rebuilding에도 들어가고, 적재 전 추가분은 기존 필터와 합칠 때 포함 -> 누락 없음
+     * (삭제된 이메일은 남을 수 있지만 오탐만 늘어남)
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        ConcurrentBloomFilter next = new ConcurrentBloomFilter(expectedInsertions, fpp);
+        rebuilding = next;
+        try {
+            long[] count = {0};
+            jdbcTemplate.query("SELECT email FROM users WHERE email IS NOT NULL", resultSet -> {
+                next.put(normalize(resultSet.getString(1)));
+                count[0]++;
+            });
+            next.putAll(filter);
+            filter = next;
+            log.info("가입 이메일 필터 적재 완료 - {}건, {}ms (비트: {}, 해시: {})",
+                    count[0], System.currentTimeMillis() - startedAt, next.getBitCount(), next.getHashCount());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    public void add(String email) {
+        if (email == null || email.isEmpty()) {
+            return;
+        }
+        String normalized = normalize(email);
+        filter.put(normalized);
+        ConcurrentBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(normalized);
+        }
+    }
+
+    // false면 가입되지 않은 이메일 (DB 대소문자 구분 여부와 관계없이 누락 없도록 소문자로 비교)
+    public boolean mightExist(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        if (filter.mightContain(normalize(email))) {
+            return true;
+        }
+        filteredOut.increment();
+        return false;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getFilteredOutCount() {
+        return filteredOut.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("가입 이메일 필터 재적재 실패 (기존 필터 유지): {}", e.getMessage());
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
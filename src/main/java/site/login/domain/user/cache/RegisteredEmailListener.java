@@ -0,0 +1,29 @@
+package site.login.domain.user.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import site.login.domain.user.entity.User;
+
+// User 저장(회원가입, 소셜 로그인 신규 사용자) 및 이메일 변경 시 가입 이메일 필터에 추가
+@Component
+public class RegisteredEmailListener {
+
+    // EntityManagerFactory 초기화 중 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<RegisteredEmailFilter> registeredEmailFilter;
+
+    public RegisteredEmailListener(ObjectProvider<RegisteredEmailFilter> registeredEmailFilter) {
+        this.registeredEmailFilter = registeredEmailFilter;
+    }
+
+    // 롤백되어도 오탐만 늘 뿐이므로 커밋을 기다리지 않고 바로 추가
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        RegisteredEmailFilter filter = registeredEmailFilter.getIfAvailable();
+        if (filter != null) {
+            filter.add(user.getEmail());
+        }
+    }
+}
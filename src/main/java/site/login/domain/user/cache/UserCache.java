@@ -0,0 +1,206 @@
+package site.login.domain.user.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.login.domain.user.repository.UserRepository;
+import site.login.global.datasource.DataSourceRouting;
+import site.login.global.util.ExpiringCache;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UserRepository 조회용 인메모리 캐시 (이메일 / ID / 소셜 로그인 키)
+ * 읽기 전용 경로에서만 사용하고, 수정은 반드시 UserRepository로 엔티티를 조회해서 처리
+ * 캐시 미스 시에도 엔티티 대신 필요한 컬럼만 UserSnapshot으로 바로 조회
+ *
+ * 무효화 직후(복제 지연 창) 레플리카에서 읽은 값은 캐시하지 않음
+ * -> 아직 복제되지 않은 이전 값이 TTL 동안 다시 캐시되는 것 방지 (프라이머리 고정 조회만 저장)
+ *
+ * 무효화는 서버별 캐시이므로 다른 서버에는 RedisUserCacheInvalidator(user.cache.invalidation=redis)로 전달
+ * 설정하지 않으면 다른 서버는 TTL(user.cache.ttl-seconds, 기본 30초)까지 이전 값(비밀번호 해시, 권한 등)을 사용
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<String, UserSnapshot> byEmail;
+    private final ExpiringCache<Long, UserSnapshot> byId;
+    private final ExpiringCache<String, UserSnapshot> byProvider;
+    private final long ttlMillis;
+
+    // 최근 무효화된 사용자 ID (복제 지연 창 동안 유지)
+    private final ExpiringCache<Long, Boolean> recentlyEvicted;
+    private final long replicationLagMillis;
+
+    // ID -> 이 사용자로 저장한 이메일/소셜 키 (무효화 시 전체 순회 없이 제거)
+    // 캐시에서 만료/밀려난 사용자의 항목은 크기가 pruneThreshold를 넘을 때 정리
+    private final ConcurrentHashMap<Long, Keys> keysById = new ConcurrentHashMap<>();
+    private final int pruneThreshold;
+    private final AtomicBoolean pruning = new AtomicBoolean(false);
+
+    // 무효화가 일어날 때마다 증가 (조회 도중 무효화된 이전 데이터가 다시 캐시되는 것 방지)
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.max-size:10000}") int maxSize,
+                     @Value("${user.cache.ttl-seconds:30}") long ttlSeconds,
+                     @Value("${app.datasource.read-your-writes-ms:3000}") long replicationLagMillis) {
+        this.userRepository = userRepository;
+        this.byEmail = new ExpiringCache<>(maxSize);
+        this.byId = new ExpiringCache<>(maxSize);
+        this.byProvider = new ExpiringCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+        // 세 캐시에 살아 있는 사용자는 최대 maxSize * 3 -> 정리 후에는 항상 기준 아래로 내려감
+        this.pruneThreshold = maxSize * 4;
+        this.recentlyEvicted = new ExpiringCache<>(maxSize);
+        this.replicationLagMillis = replicationLagMillis;
+    }
+
+    // 이메일로 사용자 찾기
+    public Optional<UserSnapshot> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        UserSnapshot cached = byEmail.get(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long gen = generation.get();
+        return userRepository.findSnapshotByEmail(email).map(snapshot -> store(snapshot, gen));
+    }
+
+    // ID로 사용자 찾기
+    public Optional<UserSnapshot> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        UserSnapshot cached = byId.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long gen = generation.get();
+        return userRepository.findSnapshotById(id).map(snapshot -> store(snapshot, gen));
+    }
+
+    // 소셜 로그인 사용자 찾기
+    public Optional<UserSnapshot> findByProviderAndProviderId(String provider, String providerId) {
+        String key = providerKey(provider, providerId);
+        UserSnapshot cached = byProvider.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long gen = generation.get();
+        return userRepository.findSnapshotByProviderAndProviderId(provider, providerId).map(snapshot -> store(snapshot, gen));
+    }
+
+    // 사용자 캐시 무효화 (이메일이 바뀌었을 수 있으므로 ID 기준으로 전체 키 제거)
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        if (replicationLagMillis > 0) {
+            recentlyEvicted.put(userId, Boolean.TRUE, System.currentTimeMillis() + replicationLagMillis);
+        }
+        byId.remove(userId);
+        Keys keys = keysById.remove(userId);
+        if (keys != null) {
+            keys.emails.forEach(byEmail::remove);
+            keys.providerKeys.forEach(byProvider::remove);
+        }
+    }
+
+    public long hitCount() {
+        return byEmail.hitCount() + byId.hitCount() + byProvider.hitCount();
+    }
+
+    public long missCount() {
+        return byEmail.missCount() + byId.missCount() + byProvider.missCount();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private UserSnapshot store(UserSnapshot snapshot, long gen) {
+        if (generation.get() != gen) {
+            return snapshot; // 조회 중 무효화 발생 -> 캐시하지 않음
+        }
+        if (!DataSourceRouting.isPrimaryForced() && recentlyEvicted.get(snapshot.getId()) != null) {
+            return snapshot; // 무효화 직후 레플리카에서 읽었을 수 있는 값 -> 캐시하지 않음
+        }
+        if (keysById.size() >= pruneThreshold) {
+            pruneIndex();
+        }
+        // 역색인을 먼저 기록 (캐시에 들어간 키는 항상 evict로 찾을 수 있음)
+        Keys keys = keysById.computeIfAbsent(snapshot.getId(), id -> new Keys());
+        String email = snapshot.getEmail();
+        String providerKey = snapshot.isSocialUser() ? providerKey(snapshot.getProvider(), snapshot.getProviderId()) : null;
+        if (email != null) {
+            keys.emails.add(email);
+        }
+        if (providerKey != null) {
+            keys.providerKeys.add(providerKey);
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        byId.put(snapshot.getId(), snapshot, expiresAt);
+        if (email != null) {
+            byEmail.put(email, snapshot, expiresAt);
+        }
+        if (providerKey != null) {
+            byProvider.put(providerKey, snapshot, expiresAt);
+        }
+
+        // 정리(pruneIndex)와 겹쳐 역색인에서 빠졌으면 다시 등록
+        if (keysById.get(snapshot.getId()) != keys) {
+            Keys current = keysById.computeIfAbsent(snapshot.getId(), id -> keys);
+            if (current != keys) {
+                current.emails.addAll(keys.emails);
+                current.providerKeys.addAll(keys.providerKeys);
+            }
+        }
+
+        if (generation.get() != gen) {
+            evict(snapshot.getId()); // 저장하는 도중 무효화 발생 -> 방금 넣은 값 제거
+        }
+        return snapshot;
+    }
+
+    // 세 캐시 어디에도 남아 있지 않은 사용자의 역색인 제거 (캐시 항목은 그대로 유지)
+    private void pruneIndex() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            keysById.forEach((id, keys) -> {
+                boolean cached = byId.contains(id)
+                        || keys.emails.stream().anyMatch(byEmail::contains)
+                        || keys.providerKeys.stream().anyMatch(byProvider::contains);
+                if (!cached) {
+                    keysById.remove(id, keys);
+                }
+            });
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    int indexSize() {
+        return keysById.size();
+    }
+
+    private static String providerKey(String provider, String providerId) {
+        return Objects.toString(provider) + ":" + Objects.toString(providerId);
+    }
+
+    private static final class Keys {
+        private final Set<String> emails = ConcurrentHashMap.newKeySet();
+        private final Set<String> providerKeys = ConcurrentHashMap.newKeySet();
+    }
+}
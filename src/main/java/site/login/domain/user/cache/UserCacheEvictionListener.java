@@ -0,0 +1,43 @@
+package site.login.domain.user.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import site.login.domain.user.entity.User;
+import site.login.global.util.TransactionUtil;
+
+// User 변경(updateName, updatePassword, updateEmail, completeProfile 등) 시 캐시 무효화
+// 커밋 이후 다른 서버에도 전파 (RedisUserCacheInvalidator가 설정된 경우)
+@Component
+public class UserCacheEvictionListener {
+
+    // EntityManagerFactory 초기화 중 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<UserCache> userCache;
+    private final ObjectProvider<RedisUserCacheInvalidator> invalidator;
+
+    public UserCacheEvictionListener(ObjectProvider<UserCache> userCache,
+                                     ObjectProvider<RedisUserCacheInvalidator> invalidator) {
+        this.userCache = userCache;
+        this.invalidator = invalidator;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        Long userId = user.getId();
+        // flush 시점에 한 번, 커밋 이후 한 번 더 제거 (커밋 전 다른 요청이 다시 캐시한 이전 값 정리)
+        evict(userId);
+        TransactionUtil.afterCommit(() -> {
+            evict(userId);
+            invalidator.ifAvailable(publisher -> publisher.publish(userId));
+        });
+    }
+
+    private void evict(Long userId) {
+        UserCache cache = userCache.getIfAvailable();
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package site.login.domain.user.cache;
+
+import lombok.Getter;
+import site.login.domain.user.entity.Role;
+import site.login.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+// 캐시에 저장하는 사용자 정보 (불변, 영속성 컨텍스트와 무관)
+@Getter
+public class UserSnapshot {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final String name;
+    private final Role role;
+    private final String provider;
+    private final String providerId;
+    private final Boolean profileCompleted;
+    private final int tokenVersion;
+    private final LocalDateTime createdAt;
+
+    // UserRepository의 select new 프로젝션에서도 사용 (엔티티를 만들지 않고 필요한 컬럼만 조회)
+    public UserSnapshot(Long id, String email, String password, String name, Role role,
+                        String provider, String providerId, Boolean profileCompleted,
+                        Integer tokenVersion, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.name = name;
+        this.role = role;
+        this.provider = provider;
+        this.providerId = providerId;
+        this.profileCompleted = profileCompleted;
+        this.tokenVersion = tokenVersion != null ? tokenVersion : 0;
+        this.createdAt = createdAt;
+    }
+
+    // Entity -> Snapshot 변환
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getName(),
+                user.getRole(),
+                user.getProvider(),
+                user.getProviderId(),
+                user.getProfileCompleted(),
+                user.getCurrentTokenVersion(),
+                user.getCreatedAt()
+        );
+    }
+
+    // 소셜 로그인 사용자 여부 확인
+    public boolean isSocialUser() {
+        return provider != null && providerId != null;
+    }
+
+    // JWT subject (이메일이 없으면 provider_providerId 사용)
+    public String getTokenSubject() {
+        return email != null && !email.isEmpty() ? email : provider + "_" + providerId;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.*;
 import site.login.domain.user.dto.UserInfoDto;
 import site.login.domain.user.dto.UserUpdateDto;
 import site.login.domain.user.service.UserService;
+import site.login.global.exception.CustomException;
 
 import jakarta.validation.Valid;
 
@@ -47,6 +48,8 @@ public class UserController {
             return ResponseEntity.ok(updatedUserInfo);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).build();
         } catch (Exception e) {
             log.error("사용자 정보 수정 중 오류 발생", e);
             return ResponseEntity.internalServerError().build();
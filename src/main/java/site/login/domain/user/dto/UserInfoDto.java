@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import site.login.domain.user.cache.UserSnapshot;
 import site.login.domain.user.entity.User;
 
 import jakarta.validation.constraints.NotBlank;
@@ -34,4 +35,16 @@ public class UserInfoDto {
                 .isSocialUser(user.isSocialUser())
                 .build();
     }
+    
+    // Snapshot(캐시) -> DTO 변환
+    public static UserInfoDto from(UserSnapshot user) {
+        return UserInfoDto.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .role(user.getRole().getKey())
+                .createdAt(user.getCreatedAt())
+                .isSocialUser(user.isSocialUser())
+                .build();
+    }
 }
\ No newline at end of file
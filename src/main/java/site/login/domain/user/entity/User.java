@@ -4,27 +4,40 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import site.login.domain.user.cache.RegisteredEmailListener;
+import site.login.domain.user.cache.UserCacheEvictionListener;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = "uk_users_provider_provider_id", columnNames = {"provider", "providerId"}) // 소셜 로그인 조회
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserCacheEvictionListener.class, RegisteredEmailListener.class})
+@DynamicUpdate // 변경된 컬럼만 UPDATE (다른 경로에서 바뀐 컬럼을 이전 값으로 덮어쓰지 않음)
 public class User {
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+    public static final String ID_GENERATOR = "users_id_generator";
+    public static final int ID_ALLOCATION_SIZE = 50;
     
+    // 시퀀스 + pooled 옵티마이저 (50개 단위로 미리 할당 -> INSERT JDBC 배치 가능, IDENTITY는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = User.ID_GENERATOR)
+    @SequenceGenerator(name = User.ID_GENERATOR, sequenceName = "users_seq", allocationSize = User.ID_ALLOCATION_SIZE)
     private Long id;
     
-    @Column(unique = true, nullable = true) // 소셜 로그인 사용자는 이메일이 없을 수 있음 (카카오 제외)
+    @Column(nullable = true) // 소셜 로그인 사용자는 이메일이 없을 수 있음 (카카오 제외)
     private String email;
     
     @Column(nullable = true) // 소셜 로그인 사용자는 비밀번호가 없음
@@ -49,6 +62,24 @@ public class User {
     @Column(nullable = false)
     private Boolean profileCompleted = false;
     
+    // 토큰 버전 (증가시키면 이전에 발급된 JWT 무효화)
+    @Builder.Default
+    @Column
+    private Integer tokenVersion = 0;
+    
+    // 낙관적 잠금 (동시에 수정하거나 오래된 상태로 수정하면 OptimisticLockException)
+    // 초기값을 두지 않음: null이어야 Spring Data가 새 엔티티로 보고 merge 대신 persist (저장 시 0으로 시작)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
+    // 마지막 로그인 시각 / 로그인 횟수 (LoginAuditPipeline이 JDBC로만 갱신)
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
+    
+    @Column(insertable = false, updatable = false)
+    private Long loginCount;
+    
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -76,6 +107,16 @@ public class User {
         this.profileCompleted = true;
     }
     
+    // 발급된 토큰 전체 무효화 (비밀번호 변경 등)
+    public void revokeTokens() {
+        this.tokenVersion = getCurrentTokenVersion() + 1;
+    }
+    
+    // 현재 토큰 버전 (기존 데이터는 null일 수 있음)
+    public int getCurrentTokenVersion() {
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+    
     // 소셜 로그인 사용자 여부 확인
     public boolean isSocialUser() {
         return provider != null && providerId != null;
@@ -1,20 +1,56 @@
 package site.login.domain.user.repository;
 
+import site.login.domain.user.cache.UserSnapshot;
 import site.login.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import site.login.global.config.IndexedBy;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // 조회 전용 프로젝션 (영속성 컨텍스트에 엔티티/변경 감지 스냅샷을 만들지 않음, 감사 컬럼 제외)
+    String SNAPSHOT_SELECT = "select new site.login.domain.user.cache.UserSnapshot("
+            + "u.id, u.email, u.password, u.name, u.role, u.provider, u.providerId, "
+            + "u.profileCompleted, u.tokenVersion, u.createdAt) from User u ";
     
-    // 이메일로 사용자 찾기
+    // 이메일로 사용자 찾기 (수정용, 조회만 할 때는 UserCache)
+    @IndexedBy(table = "users", columns = "email")
     Optional<User> findByEmail(String email);
     
-    // 이메일 존재 여부 확인
-    boolean existsByEmail(String email);
-    
-    // 소셜 로그인 사용자 찾기 (추후 사용)
+    // 소셜 로그인 사용자 찾기 (uk_users_provider_provider_id 사용)
+    @IndexedBy(table = "users", columns = {"provider", "provider_id"})
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
+    
+    // 소셜 계정 또는 같은 이메일을 가진 사용자 한 번에 조회 (소셜 로그인 저장용)
+    @Query("select u from User u where (u.provider = :provider and u.providerId = :providerId) or u.email = :email")
+    @IndexedBy(table = "users", columns = {"provider", "provider_id"})
+    @IndexedBy(table = "users", columns = "email")
+    List<User> findByProviderAndProviderIdOrEmail(@Param("provider") String provider,
+                                                  @Param("providerId") String providerId,
+                                                  @Param("email") String email);
+    
+    // 캐시 미스 시 조회 (UserCache)
+    @Query(SNAPSHOT_SELECT + "where u.email = :email")
+    @IndexedBy(table = "users", columns = "email")
+    Optional<UserSnapshot> findSnapshotByEmail(@Param("email") String email);
+
+    @Query(SNAPSHOT_SELECT + "where u.id = :id")
+    @IndexedBy(table = "users", columns = "id")
+    Optional<UserSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query(SNAPSHOT_SELECT + "where u.provider = :provider and u.providerId = :providerId")
+    @IndexedBy(table = "users", columns = {"provider", "provider_id"})
+    Optional<UserSnapshot> findSnapshotByProviderAndProviderId(@Param("provider") String provider,
+                                                               @Param("providerId") String providerId);
+
+    // 토큰 버전만 조회 (JWT 폐기 여부 확인용, 컬럼 추가 전 행의 NULL은 0 -> 결과가 없으면 삭제된 사용자)
+    @Query("select coalesce(u.tokenVersion, 0) from User u where u.id = :id")
+    @IndexedBy(table = "users", columns = "id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package site.login.domain.user.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.login.domain.user.entity.User;
+import site.login.domain.user.repository.UserRepository;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.util.DataIntegrityUtil;
+
+import java.util.List;
+
+/**
+ * 대량 사용자 생성 (제휴사 계정 이관 등)
+ * 배치 크기만큼 persist -> flush(JDBC 배치 INSERT) -> clear 반복
+ * id는 시퀀스에서 미리 할당받으므로 행마다 INSERT 왕복이 없고, 영속성 컨텍스트도 배치 크기 이상 커지지 않음
+ *
+ * 비밀번호는 이미 해시된 값이어야 함 (해시는 트랜잭션 밖에서 PasswordUtil.encode 또는 이관 원본의 bcrypt 해시)
+ * 하나라도 이메일이 중복이면 전체 롤백 (DUPLICATE_EMAIL, 그 외 무결성 위반은 그대로 던짐)
+ */
+@Slf4j
+@Service
+public class BulkUserCreationService {
+
+    private final UserRepository userRepository;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkUserCreationService(UserRepository userRepository,
+                                   @Value("${app.jpa.batch-size:50}") int batchSize) {
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public int createAll(List<User> users) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            for (int from = 0; from < users.size(); from += batchSize) {
+                userRepository.saveAll(users.subList(from, Math.min(from + batchSize, users.size())));
+                userRepository.flush();
+                entityManager.clear();
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (DataIntegrityUtil.isDuplicateKey(e, User.EMAIL_UNIQUE_CONSTRAINT)) {
+                throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            throw e;
+        }
+        log.info("사용자 대량 생성 - {}건, {}ms", users.size(), System.currentTimeMillis() - startedAt);
+        return users.size();
+    }
+}
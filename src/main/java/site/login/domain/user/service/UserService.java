@@ -10,4 +10,7 @@ public interface UserService {
     
     // 사용자 정보 수정
     UserInfoDto updateUser(String email, UserUpdateDto userUpdateDto);
+    
+    // 비밀번호 해시 교체 (같은 비밀번호, cost 변경 시)
+    void upgradePasswordHash(Long userId, String encodedPassword);
 }
\ No newline at end of file
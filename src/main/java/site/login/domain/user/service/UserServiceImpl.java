@@ -2,14 +2,21 @@ package site.login.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import site.login.domain.auth.service.RefreshTokenService;
+import site.login.domain.user.cache.UserCache;
+import site.login.domain.user.cache.UserSnapshot;
 import site.login.domain.user.dto.UserInfoDto;
 import site.login.domain.user.dto.UserUpdateDto;
 import site.login.domain.user.entity.User;
 import site.login.domain.user.repository.UserRepository;
+import site.login.global.datasource.ReadYourWritesTracker;
+import site.login.global.jwt.TokenVersionRegistry;
+import site.login.global.util.PasswordUtil;
+import site.login.global.util.TransactionUtil;
 
 @Slf4j
 @Service
@@ -18,13 +25,17 @@ import site.login.domain.user.repository.UserRepository;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final PasswordUtil passwordUtil;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Override
     public UserInfoDto getCurrentUser(String email) {
-        log.info("사용자 정보 조회: {}", email);
+        log.debug("사용자 정보 조회: {}", email);
         
-        User user = userRepository.findByEmail(email)
+        UserSnapshot user = userCache.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         return UserInfoDto.from(user);
@@ -45,13 +56,32 @@ public class UserServiceImpl implements UserService {
         
         // 비밀번호 수정 (소셜 로그인 사용자는 비밀번호 변경 불가)
         if (StringUtils.hasText(userUpdateDto.getPassword()) && !user.isSocialUser()) {
-            String encodedPassword = passwordEncoder.encode(userUpdateDto.getPassword());
+            String encodedPassword = passwordUtil.encode(userUpdateDto.getPassword());
             user.updatePassword(encodedPassword);
+            user.revokeTokens(); // 기존에 발급된 토큰 무효화
+            refreshTokenService.revokeAll(user.getId());
         }
         
         User updatedUser = userRepository.save(user);
+        
+        // 커밋 이후 토큰 버전 캐시 갱신
+        Long userId = updatedUser.getId();
+        int tokenVersion = updatedUser.getCurrentTokenVersion();
+        TransactionUtil.afterCommit(() -> tokenVersionRegistry.update(userId, tokenVersion));
+        
+        // 복제 지연 동안 이 클라이언트의 조회는 프라이머리에서 (수정 직후 /me가 이전 값을 읽지 않도록)
+        TransactionUtil.afterCommit(readYourWritesTracker::markWritten);
         log.info("사용자 정보 수정 완료: {}", email);
         
         return UserInfoDto.from(updatedUser);
     }
+
+    // 로그인 트랜잭션(readOnly)과 분리해서 저장
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void upgradePasswordHash(Long userId, String encodedPassword) {
+        userRepository.findById(userId)
+                .ifPresent(user -> user.updatePassword(encodedPassword));
+        log.info("비밀번호 해시 재생성: {}", userId);
+    }
 }
\ No newline at end of file
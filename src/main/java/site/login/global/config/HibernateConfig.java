@@ -0,0 +1,27 @@
+package site.login.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 설정
+ * JDBC 배치: 같은 테이블 INSERT/UPDATE를 묶어 전송 (대량 가입 BulkUserCreationService)
+ */
+@Configuration
+public class HibernateConfig {
+
+    // User.ID_ALLOCATION_SIZE와 같게 (시퀀스 조회 한 번에 배치 하나)
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+            properties.put("hibernate.order_inserts", "true");
+            properties.put("hibernate.order_updates", "true");
+        };
+    }
+}
@@ -0,0 +1,161 @@
+package site.login.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시작 시 조회 조건 컬럼에 인덱스가 있는지 실제 스키마에서 확인
+ * 요청마다 실행되는 조회가 테이블 전체 스캔이 되지 않도록 (ddl-auto로 인덱스가 만들어지지 않은 운영 DB 등)
+ * 확인할 조회 목록은 리포지토리 메서드의 @IndexedBy에서 읽음 (@IndexedBy 없는 조회 메서드는 경고)
+ * 없으면 경고 로그, app.index-verifier.fail-on-missing=true면 시작 중단
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.index-verifier.enabled", havingValue = "true", matchIfMissing = true)
+public class IndexVerifier implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final ListableBeanFactory beanFactory;
+    private final boolean failOnMissing;
+
+    public IndexVerifier(DataSource dataSource,
+                         ListableBeanFactory beanFactory,
+                         @Value("${app.index-verifier.fail-on-missing:false}") boolean failOnMissing) {
+        this.dataSource = dataSource;
+        this.beanFactory = beanFactory;
+        this.failOnMissing = failOnMissing;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<IndexedLookup> lookups = collectLookups();
+        List<String> missing = new ArrayList<>();
+        Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (IndexedLookup lookup : lookups) {
+                List<List<String>> indexes = indexesByTable.computeIfAbsent(lookup.table, table -> readIndexes(metaData, table));
+                if (!isCovered(indexes, lookup.columns)) {
+                    missing.add(lookup.describe());
+                }
+            }
+        }
+
+        if (missing.isEmpty()) {
+            log.info("인덱스 확인 완료 - 조회 {}개 모두 인덱스 사용 가능", lookups.size());
+            return;
+        }
+        missing.forEach(lookup -> log.warn("인덱스 없음 (전체 스캔 예상): {}", lookup));
+        if (failOnMissing) {
+            throw new IllegalStateException("필요한 인덱스가 없습니다: " + missing);
+        }
+    }
+
+    // 리포지토리 인터페이스(커스텀 구현 인터페이스 포함) 메서드의 @IndexedBy
+    private List<IndexedLookup> collectLookups() {
+        List<IndexedLookup> lookups = new ArrayList<>();
+        Repositories repositories = new Repositories(beanFactory);
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRepositoryInformationFor(domainType).orElse(null);
+            if (information == null) {
+                continue;
+            }
+            Class<?> repositoryInterface = information.getRepositoryInterface();
+            for (Method method : repositoryInterface.getMethods()) {
+                for (IndexedBy indexedBy : method.getAnnotationsByType(IndexedBy.class)) {
+                    lookups.add(new IndexedLookup(repositoryInterface.getSimpleName() + "." + method.getName(),
+                            indexedBy.table(), indexedBy.columns()));
+                }
+            }
+            // 파생/@Query 조회 메서드는 반드시 인덱스를 선언 (새 조회가 목록에서 빠지지 않도록)
+            for (Method method : information.getQueryMethods()) {
+                if (method.getAnnotationsByType(IndexedBy.class).length == 0) {
+                    log.warn("@IndexedBy 없는 조회 메서드 (인덱스 확인 안 됨): {}.{}",
+                            repositoryInterface.getSimpleName(), method.getName());
+                }
+            }
+        }
+        return lookups;
+    }
+
+    // 인덱스 이름별 컬럼 목록 (순서대로). DB마다 테이블명 대소문자가 달라서 원래 이름, 대문자 순으로 조회
+    private List<List<String>> readIndexes(DatabaseMetaData metaData, String table) {
+        try {
+            List<List<String>> indexes = readIndexes(metaData, table, metaData.getConnection().getCatalog());
+            if (indexes.isEmpty()) {
+                indexes = readIndexes(metaData, table.toUpperCase(Locale.ROOT), metaData.getConnection().getCatalog());
+            }
+            return indexes;
+        } catch (SQLException e) {
+            log.warn("인덱스 정보 조회 실패: {} - {}", table, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<List<String>> readIndexes(DatabaseMetaData metaData, String table, String catalog) throws SQLException {
+        Map<String, TreeMap<Short, String>> columnsByIndex = new HashMap<>();
+        try (ResultSet resultSet = metaData.getIndexInfo(catalog, null, table, false, true)) {
+            while (resultSet.next()) {
+                String indexName = resultSet.getString("INDEX_NAME");
+                String columnName = resultSet.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(resultSet.getShort("ORDINAL_POSITION"), columnName.toLowerCase(Locale.ROOT));
+            }
+        }
+        List<List<String>> indexes = new ArrayList<>();
+        columnsByIndex.values().forEach(columns -> indexes.add(new ArrayList<>(columns.values())));
+        return indexes;
+    }
+
+    // 조건 컬럼이 어떤 인덱스의 앞쪽 컬럼들과 (순서 무관) 일치하면 사용 가능
+    private boolean isCovered(List<List<String>> indexes, List<String> columns) {
+        for (List<String> index : indexes) {
+            if (index.size() >= columns.size()
+                    && index.subList(0, columns.size()).containsAll(columns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class IndexedLookup {
+        private final String finder;
+        private final String table;
+        private final List<String> columns;
+
+        private IndexedLookup(String finder, String table, String... columns) {
+            this.finder = finder;
+            this.table = table;
+            this.columns = Arrays.asList(columns);
+        }
+
+        private String describe() {
+            return finder + " -> " + table + columns;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package site.login.global.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 리포지토리 조회 메서드가 사용하는 인덱스 (IndexVerifier가 시작 시 실제 스키마에서 확인)
+ * columns는 인덱스의 앞쪽 컬럼이어야 함 (순서 무관)
+ * OR 조건처럼 인덱스 여러 개가 필요한 조회는 조건마다 하나씩 선언
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(IndexedBy.List.class)
+public @interface IndexedBy {
+
+    String table();
+
+    String[] columns();
+
+    @Documented
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        IndexedBy[] value();
+    }
+}
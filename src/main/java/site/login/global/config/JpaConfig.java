@@ -1,5 +1,73 @@
 package site.login.global.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import site.login.global.datasource.ReadYourWritesTracker;
+import site.login.global.datasource.ReplicaDataSourceProperties;
+import site.login.global.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (app.datasource.routing.enabled=true)
+ * @Transactional(readOnly = true) 구간(로그인 조회, 내 정보 조회, JWT 필터 조회 등)은 레플리카로,
+ * 쓰기 트랜잭션과 트랜잭션 밖 JDBC 작업(로그인 기록 배치 등)은 프라이머리로 보냄
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
 public class JpaConfig {
 
+    // 프라이머리 (기존 spring.datasource, spring.datasource.hikari 설정 그대로)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      ReplicaDataSourceProperties replicaProperties,
+                                                      ReadYourWritesTracker readYourWritesTracker) {
+        List<HikariDataSource> replicas = replicaProperties.getReplicas().stream()
+                .map(JpaConfig::createReplica)
+                .collect(Collectors.toList());
+        if (replicas.isEmpty()) {
+            log.warn("레플리카 설정이 없어 모든 조회를 프라이머리로 보냄");
+        }
+        log.info("읽기/쓰기 DataSource 분리 - 레플리카 {}개", replicas.size());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    // JPA, JdbcTemplate이 사용하는 DataSource (실제 연결은 첫 쿼리 시점에 선택)
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource createReplica(ReplicaDataSourceProperties.Replica replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        if (replica.getDriverClassName() != null) {
+            dataSource.setDriverClassName(replica.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica-" + replica.getUrl());
+        return dataSource;
+    }
 }
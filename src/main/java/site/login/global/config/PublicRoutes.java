@@ -0,0 +1,46 @@
+package site.login.global.config;
+
+import site.login.global.util.PathPrefixTrie;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * 인증 없이 접근 가능한 URL 목록 (SecurityConfig, JwtAuthenticationFilter 공용)
+ */
+public final class PublicRoutes {
+
+    // 하위 경로 전체 허용
+    private static final String[] PREFIXES = {
+            "/api/auth/",       // 일반 로그인/회원가입
+            "/oauth2/",         // OAuth2 인증 시작 경로 등 OAuth2 관련 모든 경로
+            "/login/oauth2/",   // OAuth2 콜백 경로
+            "/api/debug/"       // 디버그 API (개발용)
+    };
+
+    // 정확히 일치하는 경로만 허용
+    private static final String[] EXACT_PATHS = {
+            "/",                // 메인 페이지
+            "/error",           // 에러 페이지
+            "/favicon.ico",     // 파비콘
+            "/actuator/health"  // 헬스체크 (메트릭은 관리 포트에서만 공개, TempSecurityConfig)
+    };
+
+    private static final PathPrefixTrie MATCHER = PathPrefixTrie.compile(PREFIXES, EXACT_PATHS);
+
+    private PublicRoutes() {
+    }
+
+    // requestMatchers()용 패턴 ("/api/auth/" -> "/api/auth/**")
+    public static String[] patterns() {
+        return Stream.concat(
+                Arrays.stream(PREFIXES).map(prefix -> prefix + "**"),
+                Arrays.stream(EXACT_PATHS)
+        ).toArray(String[]::new);
+    }
+
+    // 요청 URI가 공개 경로인지 확인
+    public static boolean matches(CharSequence requestUri) {
+        return MATCHER.matches(requestUri);
+    }
+}
@@ -1,20 +1,24 @@
 package site.login.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import site.login.domain.oauth.service.CustomOAuth2UserService;
+import site.login.global.jwt.JwtAccessDeniedHandler;
 import site.login.global.jwt.JwtAuthenticationEntryPoint;
 import site.login.global.jwt.JwtAuthenticationFilter;
+import site.login.global.oauth2.CookieAuthorizationRequestRepository;
 import site.login.global.oauth2.OAuth2AuthenticationFailureHandler;
 import site.login.global.oauth2.OAuth2AuthenticationSuccessHandler;
+import site.login.global.util.AdaptivePasswordEncoder;
 
 @Configuration
 @EnableWebSecurity
@@ -23,9 +27,15 @@ public class TempSecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
+    private final CookieAuthorizationRequestRepository cookieAuthorizationRequestRepository;
+
+    // 관리 포트 (설정하지 않으면 -1 -> 메트릭도 인증 필요)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -37,21 +47,24 @@ public class TempSecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             
-            // 인증 실패 시 처리
+            // 인증 전 요청을 세션에 저장하지 않음 (401 응답만 반환)
+            .requestCache(cache -> cache
+                .requestCache(new NullRequestCache()))
+            
+            // 인증 실패(401) / 권한 부족(403) 시 처리
             .exceptionHandling(exception -> exception
-                .authenticationEntryPoint(jwtAuthenticationEntryPoint))
+                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                .accessDeniedHandler(jwtAccessDeniedHandler))
             
             // URL별 접근 권한 설정
             .authorizeHttpRequests(auth -> auth
-                // 인증 없이 접근 가능한 URL
-                .requestMatchers("/api/auth/**").permitAll()              // 일반 로그인/회원가입
-                .requestMatchers("/oauth2/**").permitAll()                // OAuth2 관련 모든 경로
-                .requestMatchers("/login/oauth2/**").permitAll()          // OAuth2 콜백 경로
-                .requestMatchers("/oauth2/authorization/**").permitAll()   // OAuth2 인증 시작 경로
-                .requestMatchers("/").permitAll()                         // 메인 페이지
-                .requestMatchers("/error").permitAll()                    // 에러 페이지
-                .requestMatchers("/favicon.ico").permitAll()              // 파비콘
-                .requestMatchers("/api/debug/**").permitAll()             // 디버그 API (개발용)
+                // 인증 없이 접근 가능한 URL (JwtAuthenticationFilter와 같은 목록 사용)
+                .requestMatchers(PublicRoutes.patterns()).permitAll()
+                
+                // 메트릭은 별도 관리 포트로 들어온 요청만 허용 (애플리케이션 포트에서는 인증 필요)
+                .requestMatchers(request -> managementPort > 0
+                        && request.getLocalPort() == managementPort
+                        && request.getRequestURI().startsWith("/actuator/")).permitAll()
                 
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
@@ -59,6 +72,9 @@ public class TempSecurityConfig {
             
             // OAuth2 로그인 설정
             .oauth2Login(oauth2 -> oauth2
+                .authorizationEndpoint(authorization -> authorization
+                    .authorizationRequestRepository(cookieAuthorizationRequestRepository) // state를 세션 대신 암호화 쿠키에 저장
+                )
                 .userInfoEndpoint(userInfo -> userInfo
                     .userService(customOAuth2UserService) // 커스텀 OAuth2 사용자 서비스
                 )
@@ -72,8 +88,17 @@ public class TempSecurityConfig {
         return http.build();
     }
     
+    /**
+     * 비밀번호 암호화 (cost를 고정하지 않으면 시작 시 목표 해시 시간에 맞춰 보정)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hash.strength:0}") int strength,
+                                           @Value("${password.hash.target-ms:100}") long targetMillis,
+                                           @Value("${password.hash.min-strength:10}") int minStrength,
+                                           @Value("${password.hash.max-strength:14}") int maxStrength) {
+        if (strength > 0) {
+            return AdaptivePasswordEncoder.withStrength(strength);
+        }
+        return AdaptivePasswordEncoder.calibrate(targetMillis, minStrength, maxStrength);
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package site.login.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import site.login.global.util.VirtualThreads;
+
+/**
+ * 가상 스레드 모드 (app.virtual-threads.enabled=true, Java 21 이상)
+ * 톰캣 요청 처리 스레드를 가상 스레드로 교체 -> OAuth 제공자 호출(사용자 정보 조회)처럼
+ * 오래 블로킹되는 요청이 많아도 플랫폼 스레드 풀이 고갈되지 않음
+ * 비밀번호 해시(PasswordUtil), 로그인 기록 저장(LoginAuditPipeline)은 CPU/배치 작업이므로 기존 전용 스레드 유지
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("가상 스레드 모드 사용 - 톰캣 요청 처리");
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-vt-"));
+    }
+}
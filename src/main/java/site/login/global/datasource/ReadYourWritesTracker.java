@@ -0,0 +1,102 @@
+package site.login.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 한 클라이언트 (마지막 쓰기 시각을 쿠키로 클라이언트가 들고 다님)
+ * 복제 지연 동안 이 클라이언트의 읽기는 레플리카 대신 프라이머리로 보냄 (자신이 쓴 값을 바로 읽을 수 있도록)
+ * - 다음 요청이 다른 서버로 가도 같은 판단 (서버 메모리에 두지 않음)
+ * - 사용자 키 대신 요청의 쿠키로 판단하므로 인증 정보가 아직 없는 JWT 필터 구간의 조회에도 적용
+ * 쿠키 값은 시각뿐이라 조작해도 자기 요청이 프라이머리로 가는 것 외에 영향 없음 (창을 벗어난 시각은 무시)
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    static final String COOKIE_NAME = "last_write_at";
+    private static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".lastWriteAt";
+
+    private final long windowMillis;
+
+    public ReadYourWritesTracker(@Value("${app.datasource.read-your-writes-ms:3000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    // 커밋 이후 호출 (현재 요청의 이후 조회 + 응답 쿠키로 다음 요청까지)
+    public void markWritten() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null || windowMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        HttpServletRequest request = attributes.getRequest();
+        request.setAttribute(LAST_WRITE_ATTRIBUTE, now);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now))
+                    .path("/")
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .sameSite("Lax")
+                    .maxAge(Duration.ofMillis(windowMillis).plusSeconds(1).toSeconds())
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+    }
+
+    // 현재 요청이 쓰기 직후 창 안에 있는지 (요청 밖이면 false)
+    public boolean isRecent() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null || windowMillis <= 0) {
+            return false;
+        }
+        long writtenAt = lastWriteAt(attributes.getRequest());
+        long now = System.currentTimeMillis();
+        // 서버 간 시계 차이를 고려해 창 크기만큼의 미래 시각까지 허용
+        return writtenAt > now - windowMillis && writtenAt <= now + windowMillis;
+    }
+
+    // 요청 속성에 한 번 읽은 값을 보관 (라우팅 판단마다 쿠키를 다시 파싱하지 않음, 없으면 0)
+    private static long lastWriteAt(HttpServletRequest request) {
+        Object cached = request.getAttribute(LAST_WRITE_ATTRIBUTE);
+        if (cached instanceof Long value) {
+            return value;
+        }
+        long value = readCookie(request);
+        request.setAttribute(LAST_WRITE_ATTRIBUTE, value);
+        return value;
+    }
+
+    private static long readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes
+                : null;
+    }
+}
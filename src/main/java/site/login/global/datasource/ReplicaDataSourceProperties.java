@@ -0,0 +1,38 @@
+package site.login.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 레플리카 설정 (프라이머리는 기존 spring.datasource 사용)
+ *
+ * app:
+ *   datasource:
+ *     routing:
+ *       enabled: true
+ *     replicas:
+ *       - url: jdbc:mysql://replica-1:3306/login
+ *         username: reader
+ *         password: ...
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
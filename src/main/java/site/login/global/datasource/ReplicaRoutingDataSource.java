@@ -0,0 +1,104 @@
+package site.login.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카, 나머지는 프라이머리로 보내는 DataSource
+ * LazyConnectionDataSourceProxy로 감싸서 사용 (트랜잭션의 readOnly 설정 이후 첫 쿼리 시점에 연결 선택)
+ *
+ * 레플리카 선택: 사용 중 연결 + 대기 스레드가 가장 적은 풀 (같으면 돌아가며 선택)
+ * 프라이머리로 보내는 경우: 쓰기 트랜잭션, 트랜잭션 밖, DataSourceRouting.onPrimary,
+ * 최근 쓰기를 한 클라이언트(ReadYourWritesTracker)의 요청
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<HikariDataSource> replicas;
+    private final String[] replicaKeys;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<HikariDataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.replicas = replicas;
+        this.replicaKeys = new String[replicas.size()];
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaKeys[i] = "replica-" + i;
+            targets.put(replicaKeys[i], replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRouting.isPrimaryForced()
+                || readYourWritesTracker.isRecent()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replicaKeys[selectReplica()];
+    }
+
+    // 부하가 가장 적은 레플리카 (시작 위치를 돌려서 같은 부하일 때 고르게 분산)
+    private int selectReplica() {
+        int count = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), count);
+        int selected = start;
+        int lowestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % count;
+            int load = load(replicas.get(index));
+            if (load < lowestLoad) {
+                lowestLoad = load;
+                selected = index;
+                if (load == 0) {
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private int load(HikariDataSource replica) {
+        HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+        return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+    }
+
+    public long getPrimaryRouteCount() {
+        return primaryRoutes.sum();
+    }
+
+    public long getReplicaRouteCount() {
+        return replicaRoutes.sum();
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
@@ -1,5 +1,14 @@
 package site.login.global.exception;
 
-public class CustomException {
+import lombok.Getter;
 
+@Getter
+public class CustomException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public CustomException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
 }
@@ -1,5 +1,28 @@
 package site.login.global.exception;
 
-public class ErrorCode {
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCode {
+
+    // 인증 필요 (JwtAuthenticationEntryPoint)
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요한 서비스입니다. 로그인 후 이용해주세요."),
+
+    // 권한 부족 (JwtAccessDeniedHandler)
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+
+    // 비밀번호 해시 작업 대기열 포화
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // 이미 가입된 이메일 (유니크 제약 위반)
+    DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다."),
+
+    // 로그인 시도 횟수 초과 (IP 또는 이메일별 제한)
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
 }
@@ -1,5 +1,25 @@
 package site.login.global.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import site.login.global.response.ErrorResponseWriter;
+
+import java.io.IOException;
+
+// 컨트롤러에서 처리하지 않은 CustomException -> ErrorCode 상태코드 + ApiResponse 본문
+@RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @ExceptionHandler(CustomException.class)
+    public void handleCustomException(CustomException e,
+                                      HttpServletRequest request,
+                                      HttpServletResponse response) throws IOException {
+        errorResponseWriter.write(request, response, e.getErrorCode());
+    }
 }
@@ -0,0 +1,29 @@
+package site.login.global.jwt;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import site.login.global.exception.ErrorCode;
+import site.login.global.response.ErrorResponseWriter;
+
+import java.io.IOException;
+
+//권한부족처리
+@Component
+@RequiredArgsConstructor
+public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    public void handle(HttpServletRequest request,
+                       HttpServletResponse response,
+                       AccessDeniedException accessDeniedException) throws IOException, ServletException {
+        // 403 Forbidden 응답
+        errorResponseWriter.write(request, response, ErrorCode.ACCESS_DENIED);
+    }
+}
@@ -1,41 +1,35 @@
 package site.login.global.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
+import site.login.global.exception.ErrorCode;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.logging.AuthEventType;
+import site.login.global.response.ErrorResponseWriter;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 //인증실패처리
-@Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private final ErrorResponseWriter errorResponseWriter;
+    private final AuthEventLogger authEventLogger;
+
     @Override
     public void commence(HttpServletRequest request, 
                         HttpServletResponse response, 
                         AuthenticationException authException) throws IOException, ServletException {
         
-        log.error("인증되지 않은 사용자의 접근: {}", authException.getMessage());
-        
-        // 401 Unauthorized 응답
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json;charset=UTF-8");
-        
-        Map<String, Object> data = new HashMap<>();
-        data.put("status", HttpServletResponse.SC_UNAUTHORIZED);
-        data.put("error", "Unauthorized");
-        data.put("message", "인증이 필요한 서비스입니다. 로그인 후 이용해주세요.");
-        data.put("path", request.getRequestURI());
+        authEventLogger.log(AuthEventType.AUTHENTICATION_REQUIRED, request.getRequestURI(), authException.getMessage());
         
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.getWriter().write(objectMapper.writeValueAsString(data));
+        // 401 Unauthorized 응답 (미리 직렬화한 본문 + 요청 경로)
+        errorResponseWriter.write(request, response, ErrorCode.UNAUTHORIZED);
     }
-}
\ No newline at end of file
+}
@@ -4,62 +4,81 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import site.login.domain.user.entity.User;
-import site.login.domain.user.repository.UserRepository;
+import site.login.domain.user.cache.UserCache;
+import site.login.domain.user.cache.UserSnapshot;
+import site.login.domain.user.entity.Role;
+import site.login.global.config.PublicRoutes;
+import site.login.global.metrics.AuthMetrics;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final AuthMetrics authMetrics;
+    private final boolean statelessPrincipal; // true면 클레임만으로 인증 객체 생성 (DB 조회 없음)
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   UserCache userCache,
+                                   TokenVersionRegistry tokenVersionRegistry,
+                                   AuthMetrics authMetrics,
+                                   @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal) {
+        this.jwtUtil = jwtUtil;
+        this.userCache = userCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.authMetrics = authMetrics;
+        this.statelessPrincipal = statelessPrincipal;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
         
-        // OAuth2 관련 경로는 JWT 검증 제외
-        String requestURI = request.getRequestURI();
-        if (shouldSkipFilter(requestURI)) {
+        // 공개 경로(OAuth2, 로그인 등)는 JWT 검증 제외
+        if (PublicRoutes.matches(request.getRequestURI())) {
             filterChain.doFilter(request, response);
             return;
         }
         
+        long startedAt = System.nanoTime();
+        String result = "anonymous";
         try {
-            // 1. 헤더에서 JWT 토큰 추출
-            String token = getTokenFromRequest(request);
-            
-            // 2. 토큰이 있고 유효한지 확인
-            if (token != null && jwtUtil.validateToken(token)) {
+            // 1~2. 헤더의 JWT 토큰 검증 + 클레임 추출 (헤더 문자열을 복사하지 않고 사용)
+            String authorizationHeader = request.getHeader("Authorization");
+            Optional<JwtClaims> claims = jwtUtil.verifyBearer(authorizationHeader);
+            if (authorizationHeader != null) {
+                result = "rejected";
+            }
+            if (claims.isPresent()) {
                 
-                // 3. 토큰에서 이메일 추출
-                String email = jwtUtil.getEmailFromToken(token);
+                // 3. 클레임에서 이메일 추출
+                String email = claims.get().getSubject();
                 
-                // 4. 이메일로 사용자 정보 조회
-                User user = userRepository.findByEmail(email)
-                        .orElse(null);
+                // 4. 권한 확인 (클레임 우선, 이전 형식 토큰은 DB 조회)
+                String role = resolveRole(claims.get());
                 
-                if (user != null) {
+                if (role != null) {
                     // 5. Spring Security 인증 객체 생성
                     UsernamePasswordAuthenticationToken authentication = 
                             new UsernamePasswordAuthenticationToken(
-                                    user.getEmail(), // principal (주체)
+                                    email,          // principal (주체)
                                     null,           // credentials (자격증명)
-                                    List.of(new SimpleGrantedAuthority(user.getRole().getKey())) // authorities (권한)
+                                    List.of(new SimpleGrantedAuthority(role)) // authorities (권한)
                             );
                     
                     // 6. 요청 정보 설정
@@ -68,6 +87,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // 7. SecurityContext에 인증 정보 저장
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     
+                    result = "authenticated";
                     log.debug("JWT 인증 성공: {}", email);
                 }
             }
@@ -75,35 +95,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.error("JWT 인증 처리 중 오류 발생", e);
             // 인증 실패 시 SecurityContext 클리어
             SecurityContextHolder.clearContext();
+            result = "rejected";
         }
+        authMetrics.recordJwtFilter(result, System.nanoTime() - startedAt);
         
         // 8. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
     /**
-     * JWT 필터를 건너뛸 경로 확인
-     */
-    private boolean shouldSkipFilter(String requestURI) {
-        return requestURI.startsWith("/oauth2/") ||
-               requestURI.startsWith("/login/oauth2/") ||
-               requestURI.startsWith("/api/auth/") ||
-               requestURI.startsWith("/api/debug/") ||
-               requestURI.equals("/") ||
-               requestURI.equals("/error") ||
-               requestURI.equals("/favicon.ico");
-    }
-
-    /**
-     * HTTP 요청 헤더에서 JWT 토큰 추출
+     * 토큰의 권한 확인 (폐기된 토큰이거나 사용자가 없으면 null)
      */
-    private String getTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7); // "Bearer " 제거
+    private String resolveRole(JwtClaims claims) {
+        if (statelessPrincipal && claims.isStateless()) {
+            // 토큰 버전만 메모리에서 비교
+            return tokenVersionRegistry.isCurrent(claims.getUserId(), claims.getTokenVersion())
+                    ? claims.getRole()
+                    : null;
         }
         
-        return null;
+        // 이전 형식 토큰: 이메일로 사용자 정보 조회 (캐시 우선)
+        return userCache.findByEmail(claims.getSubject())
+                .map(UserSnapshot::getRole)
+                .map(Role::getKey)
+                .orElse(null);
     }
 }
\ No newline at end of file
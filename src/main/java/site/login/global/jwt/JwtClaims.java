@@ -0,0 +1,24 @@
+package site.login.global.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+// 검증이 끝난 JWT 클레임 (불변)
+@Getter
+@RequiredArgsConstructor
+public class JwtClaims {
+
+    private final String subject;   // 이메일 (또는 provider_providerId)
+    private final Instant issuedAt;
+    private final Instant expiration;
+    private final String role;      // 권한 키 (ROLE_USER 등), 없으면 null
+    private final Long userId;      // 사용자 ID, 없으면 null
+    private final Integer tokenVersion; // 발급 당시 토큰 버전, 없으면 null
+
+    // DB 조회 없이 인증 객체를 만들 수 있는 토큰인지 확인 (이전 형식 토큰은 false)
+    public boolean isStateless() {
+        return role != null && !role.isEmpty() && userId != null && tokenVersion != null;
+    }
+}
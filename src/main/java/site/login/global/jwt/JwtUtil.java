@@ -5,28 +5,52 @@ import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import site.login.domain.user.cache.UserSnapshot;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.logging.AuthEventType;
+import site.login.global.metrics.AuthMetrics;
+import site.login.global.util.ExpiringCache;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtUtil {
-    
+
+    private static final String ROLE_CLAIM = "role";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final SecretKey secretKey;
     private final long expiration;
-    
+    private final JwtParser jwtParser; // 불변 객체이므로 한 번 만들어 모든 요청에서 재사용
+    private final ExpiringCache<TokenKey, JwtClaims> verifiedTokens; // 토큰(서명 digest로 해시) -> 검증 결과
+    private final AuthEventLogger authEventLogger;
+    private final AuthMetrics authMetrics; // 캐시 미스 시 파싱 + 서명 검증 시간
+
     public JwtUtil(@Value("${jwt.secret}") String secret,
-                   @Value("${jwt.expiration}") long expiration) {
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.cache.max-size:10000}") int cacheMaxSize,
+                   AuthEventLogger authEventLogger,
+                   AuthMetrics authMetrics) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.expiration = expiration;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = new ExpiringCache<>(cacheMaxSize);
+        this.authEventLogger = authEventLogger;
+        this.authMetrics = authMetrics;
     }
-    
+
     // JWT 토큰 생성
     public String generateToken(String email) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
-        
+
         return Jwts.builder()
                 .setSubject(email)
                 .setIssuedAt(now)
@@ -34,29 +58,100 @@ public class JwtUtil {
                 .signWith(secretKey)
                 .compact();
     }
-    
+
+    // JWT 토큰 생성 (권한, 사용자 ID, 토큰 버전 포함 - 필터에서 DB 조회 불필요)
+    public String generateToken(UserSnapshot user) {
+        return generateToken(user.getTokenSubject(), user.getId(), user.getRole().getKey(), user.getTokenVersion());
+    }
+
+    public String generateToken(String subject, Long userId, String role, int tokenVersion) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expiration);
+
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim(ROLE_CLAIM, role)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    /**
+     * JWT 토큰 검증 + 클레임 추출 (한 번만 파싱)
+     * 최근 검증한 토큰은 만료 시각(exp)까지 캐시에서 바로 반환
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        return verify(new TokenKey(token, 0, token.length()));
+    }
+
+    /**
+     * Authorization 헤더("Bearer <token>") 검증
+     * 캐시 적중 시 토큰 문자열을 따로 만들지 않고 헤더 안의 구간을 그대로 키로 사용
+     */
+    public Optional<JwtClaims> verifyBearer(String authorizationHeader) {
+        if (authorizationHeader == null
+                || authorizationHeader.length() <= BEARER_PREFIX.length()
+                || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        return verify(new TokenKey(authorizationHeader, BEARER_PREFIX.length(), authorizationHeader.length()));
+    }
+
+    private Optional<JwtClaims> verify(TokenKey key) {
+        JwtClaims cached = verifiedTokens.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Claims body = jwtParser.parseClaimsJws(key.token()).getBody();
+            JwtClaims claims = new JwtClaims(
+                    body.getSubject(),
+                    body.getIssuedAt() != null ? body.getIssuedAt().toInstant() : null,
+                    body.getExpiration() != null ? body.getExpiration().toInstant() : null,
+                    body.get(ROLE_CLAIM, String.class),
+                    body.get(USER_ID_CLAIM, Long.class),
+                    body.get(TOKEN_VERSION_CLAIM, Integer.class)
+            );
+
+            // 만료 시각이 있는 토큰만 캐시 (exp 이후 자동 만료)
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(key.detach(), claims, claims.getExpiration().toEpochMilli());
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료/위조 토큰이 몰려도 로그는 초당 일정 건수만 기록
+            authEventLogger.log(AuthEventType.TOKEN_INVALID, null, e.getClass().getSimpleName());
+            return Optional.empty();
+        } finally {
+            authMetrics.recordJwtParse(System.nanoTime() - startedAt);
+        }
+    }
+
+    public long getCacheHitCount() {
+        return verifiedTokens.hitCount();
+    }
+
+    public long getCacheMissCount() {
+        return verifiedTokens.missCount();
+    }
+
     // JWT 토큰에서 이메일 추출
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getSubject();
+        return verify(token)
+                .map(JwtClaims::getSubject)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 JWT 토큰입니다."));
     }
-    
+
     // JWT 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package site.login.global.jwt;
+
+/**
+ * 문자열 일부 구간을 복사 없이 가리키는 토큰 캐시 키
+ * "Bearer <token>" 헤더에서 토큰 부분을 substring 없이 바로 조회하기 위해 사용
+ * hashCode는 서명(마지막 '.' 이후) 구간으로 계산, equals는 토큰 전체 비교
+ */
+final class TokenKey {
+
+    private final String source;
+    private final int start;
+    private final int end;
+    private final int hash;
+
+    TokenKey(String source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.hash = signatureHash(source, start, end);
+    }
+
+    int length() {
+        return end - start;
+    }
+
+    // 토큰 구간만 String으로 복사 (캐시 미스 시 파싱용)
+    String token() {
+        return start == 0 && end == source.length() ? source : source.substring(start, end);
+    }
+
+    // 캐시에 저장할 키 (원본 헤더 대신 토큰 문자열만 참조)
+    TokenKey detach() {
+        String token = token();
+        return token == source ? this : new TokenKey(token, 0, token.length());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TokenKey)) {
+            return false;
+        }
+        TokenKey other = (TokenKey) o;
+        return hash == other.hash
+                && length() == other.length()
+                && source.regionMatches(start, other.source, other.start, length());
+    }
+
+    private static int signatureHash(String source, int start, int end) {
+        int i = end - 1;
+        while (i >= start && source.charAt(i) != '.') {
+            i--;
+        }
+        int h = 0;
+        for (int j = i + 1; j < end; j++) {
+            h = 31 * h + source.charAt(j);
+        }
+        return h;
+    }
+}
@@ -0,0 +1,49 @@
+package site.login.global.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.login.domain.user.repository.UserRepository;
+import site.login.global.util.ExpiringCache;
+
+// 사용자별 토큰 버전 인메모리 저장소 (요청마다 User 엔티티를 읽지 않고 JWT 폐기 여부 확인)
+@Component
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<Long, Integer> versions;
+    private final long ttlMillis;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+                                @Value("${jwt.token-version.max-size:100000}") int maxSize,
+                                @Value("${jwt.token-version.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.versions = new ExpiringCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // 토큰에 담긴 버전이 현재 버전과 같은지 확인 (캐시에 없을 때만 버전 컬럼 1개 조회)
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = versions.get(userId);
+        if (current == null) {
+            current = userRepository.findTokenVersionById(userId).orElse(null);
+            if (current == null) {
+                return false; // 삭제된 사용자
+            }
+            update(userId, current);
+        }
+        return current == tokenVersion;
+    }
+
+    public long hitCount() {
+        return versions.hitCount();
+    }
+
+    public long missCount() {
+        return versions.missCount();
+    }
+
+    // 버전 변경 반영 (커밋 이후 호출)
+    public void update(Long userId, int tokenVersion) {
+        versions.put(userId, tokenVersion, System.currentTimeMillis() + ttlMillis);
+    }
+}
@@ -0,0 +1,109 @@
+package site.login.global.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증 이벤트 로그 (로거 이름: auth.event, "event=... subject=... detail=..." 형식)
+ * 이벤트 종류별로 초당 samplesPerSecond건까지만 기록하고 나머지는 건너뜀 (건너뛴 수는 다음 로그에 함께 기록)
+ * 건수 카운터는 샘플링과 관계없이 모든 이벤트를 정확히 집계
+ */
+@Component
+public class AuthEventLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("auth.event");
+
+    private final Map<AuthEventType, Sampler> samplers = new EnumMap<>(AuthEventType.class);
+
+    public AuthEventLogger(@Value("${auth.log.samples-per-second:20}") int samplesPerSecond) {
+        for (AuthEventType type : AuthEventType.values()) {
+            samplers.put(type, new Sampler(samplesPerSecond));
+        }
+    }
+
+    public void log(AuthEventType type, String subject) {
+        log(type, subject, null);
+    }
+
+    public void log(AuthEventType type, String subject, String detail) {
+        Sampler sampler = samplers.get(type);
+        sampler.count.increment();
+
+        boolean enabled = type.isWarn() ? log.isWarnEnabled() : log.isInfoEnabled();
+        if (!enabled) {
+            return;
+        }
+        if (!sampler.tryAcquire(System.currentTimeMillis())) {
+            sampler.suppressed.increment();
+            return;
+        }
+
+        long skipped = sampler.drainSuppressed();
+        String format = skipped > 0
+                ? "event={} subject={} detail={} skipped=" + skipped
+                : "event={} subject={} detail={}";
+        if (type.isWarn()) {
+            log.warn(format, type, subject, detail);
+        } else {
+            log.info(format, type, subject, detail);
+        }
+    }
+
+    // 샘플링과 관계없는 전체 건수
+    public long getCount(AuthEventType type) {
+        return samplers.get(type).count.sum();
+    }
+
+    // 샘플링으로 기록하지 않은 누적 건수
+    public long getSuppressedCount(AuthEventType type) {
+        Sampler sampler = samplers.get(type);
+        return sampler.suppressedTotal.get() + sampler.suppressed.sum();
+    }
+
+    // 1초 고정 구간별 허용 건수 (잠금 없음)
+    private static final class Sampler {
+        private final int limit;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicLong suppressedTotal = new AtomicLong();
+        private final AtomicLong window = new AtomicLong(); // 상위 비트: 구간(초), 하위 20비트: 구간 내 기록 수
+
+        private Sampler(int limit) {
+            this.limit = Math.max(0, Math.min(limit, 0xFFFFF));
+        }
+
+        private boolean tryAcquire(long nowMillis) {
+            if (limit == 0) {
+                return false;
+            }
+            long second = nowMillis / 1000;
+            while (true) {
+                long current = window.get();
+                long next;
+                if ((current >>> 20) != second) {
+                    next = (second << 20) | 1;         // 새 구간 시작
+                } else if ((current & 0xFFFFF) < limit) {
+                    next = current + 1;
+                } else {
+                    return false;
+                }
+                if (window.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private long drainSuppressed() {
+            long skipped = suppressed.sumThenReset();
+            suppressedTotal.addAndGet(skipped);
+            return skipped;
+        }
+    }
+}
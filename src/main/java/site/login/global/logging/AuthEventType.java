@@ -0,0 +1,22 @@
+package site.login.global.logging;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 인증 이벤트 종류 (로그 레벨)
+@Getter
+@RequiredArgsConstructor
+public enum AuthEventType {
+
+    LOGIN_SUCCESS(false),
+    LOGIN_FAILURE(true),
+    LOGIN_RATE_LIMITED(true),
+    SIGNUP_SUCCESS(false),
+    SIGNUP_DUPLICATE(true),
+    OAUTH_LOGIN_SUCCESS(false),
+    OAUTH_LOGIN_FAILURE(true),
+    TOKEN_INVALID(true),
+    AUTHENTICATION_REQUIRED(true);
+
+    private final boolean warn; // true: WARN, false: INFO
+}
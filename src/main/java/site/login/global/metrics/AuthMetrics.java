@@ -0,0 +1,118 @@
+package site.login.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 구간별 Timer (Prometheus: /actuator/prometheus)
+ * 태그 조합별 Timer를 한 번만 만들어 재사용 (요청마다 빌더/태그 객체 생성 없음)
+ * 히스토그램은 구간별로 정한 SLO 버킷만 기록 (histogram_quantile로 계산, 태그 조합당 버킷 7~8개)
+ * 최대값(_max)은 Timer 기본 동작대로 최근 구간 기준 (시작 이후 전체 최대값이 아님)
+ */
+@Component
+public class AuthMetrics {
+
+    // 구간별 히스토그램 버킷 (예상 범위 안에서만)
+    private static final Map<String, Duration[]> BUCKETS = Map.of(
+            "auth.login", millis(50, 100, 250, 500, 1_000, 2_500, 5_000),
+            "auth.signup", millis(50, 100, 250, 500, 1_000, 2_500, 5_000),
+            "auth.jwt.filter", micros(100, 250, 500, 1_000, 5_000, 25_000, 100_000),
+            "auth.jwt.parse", micros(50, 100, 250, 500, 1_000, 5_000, 25_000),
+            "auth.password.hash", millis(25, 50, 100, 250, 500, 1_000, 2_500),
+            "auth.password.wait", millis(1, 10, 50, 100, 250, 500, 1_000, 2_000),
+            "auth.oauth.provider.fetch", millis(50, 100, 250, 500, 1_000, 2_500, 5_000),
+            "auth.oauth.upsert", millis(5, 10, 25, 50, 100, 250, 500),
+            "auth.oauth.success.handler", millis(5, 10, 25, 50, 100, 250, 500)
+    );
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Timer jwtParse;
+    private final Timer passwordHash;
+    private final Timer passwordWait;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.jwtParse = builder("auth.jwt.parse").register(registry);
+        this.passwordHash = builder("auth.password.hash").register(registry);
+        this.passwordWait = builder("auth.password.wait").register(registry);
+    }
+
+    // 로그인 요청 전체 (outcome: success, failure, error, 또는 ErrorCode 소문자 이름)
+    public void recordLogin(String outcome, long nanos) {
+        timer("auth.login", "outcome", outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 회원가입 요청 전체 (outcome: success, failure, error, 또는 ErrorCode 소문자 이름)
+    public void recordSignUp(String outcome, long nanos) {
+        timer("auth.signup", "outcome", outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // JWT 필터 인증 처리 (result: authenticated, rejected, anonymous), 다음 필터 실행 시간 제외
+    public void recordJwtFilter(String result, long nanos) {
+        timer("auth.jwt.filter", "result", result).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // JWT 파싱 + 서명 검증 (검증 캐시 미스일 때만)
+    public void recordJwtParse(long nanos) {
+        jwtParse.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 비밀번호 해시 연산 (해시 풀 스레드에서 실행한 시간)
+    public void recordPasswordHash(long nanos) {
+        passwordHash.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 비밀번호 해시 풀 대기열에서 기다린 시간
+    public void recordPasswordWait(long nanos) {
+        passwordWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 소셜 로그인 제공자 사용자 정보 API 호출
+    public void recordProviderFetch(String provider, long nanos) {
+        timer("auth.oauth.provider.fetch", "provider", provider).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 소셜 로그인 사용자 저장 트랜잭션
+    public void recordOAuthUpsert(String provider, long nanos) {
+        timer("auth.oauth.upsert", "provider", provider).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 소셜 로그인 성공 처리 (토큰 발급 + 리다이렉트)
+    public void recordOAuthSuccessHandler(String provider, long nanos) {
+        timer("auth.oauth.success.handler", "provider", provider).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue) {
+        String value = tagValue != null ? tagValue : "unknown";
+        return timers.computeIfAbsent(name + '|' + value, key -> builder(name)
+                .tag(tagKey, value)
+                .register(registry));
+    }
+
+    private static Timer.Builder builder(String name) {
+        return Timer.builder(name).serviceLevelObjectives(BUCKETS.get(name));
+    }
+
+    private static Duration[] millis(long... values) {
+        Duration[] durations = new Duration[values.length];
+        for (int i = 0; i < values.length; i++) {
+            durations[i] = Duration.ofMillis(values[i]);
+        }
+        return durations;
+    }
+
+    private static Duration[] micros(long... values) {
+        Duration[] durations = new Duration[values.length];
+        for (int i = 0; i < values.length; i++) {
+            durations[i] = Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(values[i]));
+        }
+        return durations;
+    }
+}
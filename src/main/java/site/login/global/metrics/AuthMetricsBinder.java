@@ -0,0 +1,91 @@
+package site.login.global.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import site.login.domain.auth.audit.LoginAuditPipeline;
+import site.login.domain.auth.ratelimit.LoginRateLimiter;
+import site.login.domain.auth.service.RefreshTokenIndex;
+import site.login.domain.user.cache.RegisteredEmailFilter;
+import site.login.domain.user.cache.UserCache;
+import site.login.global.jwt.JwtUtil;
+import site.login.global.jwt.TokenVersionRegistry;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.logging.AuthEventType;
+import site.login.global.util.PasswordUtil;
+
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 기존 컴포넌트가 이미 집계하고 있는 카운터/통계를 메트릭으로 노출
+ * 수집 시점에만 값을 읽으므로 요청 처리 경로에는 추가 비용 없음
+ * 소요 시간(JWT 파싱, 비밀번호 해시/대기)은 AuthMetrics Timer로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMetricsBinder implements MeterBinder {
+
+    private final JwtUtil jwtUtil;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserCache userCache;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final PasswordUtil passwordUtil;
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginAuditPipeline loginAuditPipeline;
+    private final RefreshTokenIndex refreshTokenIndex;
+    private final AuthEventLogger authEventLogger;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // JWT 검증 캐시 적중
+        cacheCounters(registry, "jwt", jwtUtil, JwtUtil::getCacheHitCount, JwtUtil::getCacheMissCount);
+
+        // 토큰 버전 / 사용자 캐시 (miss = DB 조회)
+        cacheCounters(registry, "token_version", tokenVersionRegistry,
+                TokenVersionRegistry::hitCount, TokenVersionRegistry::missCount);
+        cacheCounters(registry, "user", userCache, UserCache::hitCount, UserCache::missCount);
+        Gauge.builder("auth.cache.size", userCache, UserCache::size).tag("cache", "user").register(registry);
+        FunctionCounter.builder("auth.email.filter.skipped", registeredEmailFilter, RegisteredEmailFilter::getFilteredOutCount)
+                .description("가입 이메일 필터로 DB 조회를 생략한 로그인").register(registry);
+
+        // 비밀번호 해시 풀
+        Gauge.builder("auth.password.queue", passwordUtil, PasswordUtil::getQueueDepth).register(registry);
+        Gauge.builder("auth.password.active", passwordUtil, PasswordUtil::getActiveCount).register(registry);
+        FunctionCounter.builder("auth.password.rejected", passwordUtil, PasswordUtil::getRejectedCount).register(registry);
+
+        // 로그인 시도 제한
+        FunctionCounter.builder("auth.login.rate_limited", loginRateLimiter, LoginRateLimiter::getRejectedByIpCount)
+                .tag("key", "ip").register(registry);
+        FunctionCounter.builder("auth.login.rate_limited", loginRateLimiter, LoginRateLimiter::getRejectedByEmailCount)
+                .tag("key", "email").register(registry);
+
+        // 로그인 기록 파이프라인
+        Gauge.builder("auth.login.audit.buffered", loginAuditPipeline, LoginAuditPipeline::getBufferedCount).register(registry);
+        FunctionCounter.builder("auth.login.audit.dropped", loginAuditPipeline, LoginAuditPipeline::getDroppedCount).register(registry);
+        FunctionCounter.builder("auth.login.audit.flushed", loginAuditPipeline, LoginAuditPipeline::getFlushedRowCount).register(registry);
+        FunctionCounter.builder("auth.login.audit.failed", loginAuditPipeline, LoginAuditPipeline::getFailedCount).register(registry);
+
+        Gauge.builder("auth.refresh_token.index.size", refreshTokenIndex, RefreshTokenIndex::size).register(registry);
+
+        // 인증 이벤트 (로그 샘플링과 관계없는 정확한 건수)
+        for (AuthEventType type : AuthEventType.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("auth.events", authEventLogger, logger -> logger.getCount(type))
+                    .tag("type", tag).register(registry);
+            FunctionCounter.builder("auth.events.log.skipped", authEventLogger, logger -> logger.getSuppressedCount(type))
+                    .tag("type", tag).register(registry);
+        }
+    }
+
+    private <T> void cacheCounters(MeterRegistry registry, String cache, T source,
+                                   ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder("auth.cache.requests", source, hits)
+                .tags("cache", cache, "result", "hit").register(registry);
+        FunctionCounter.builder("auth.cache.requests", source, misses)
+                .tags("cache", cache, "result", "miss").register(registry);
+    }
+}
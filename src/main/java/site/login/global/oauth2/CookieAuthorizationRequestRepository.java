@@ -0,0 +1,195 @@
+package site.login.global.oauth2;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OAuth2 인가 요청(state 등)을 세션 대신 암호화된 쿠키에 저장
+ * /oauth2/authorization/{provider} 에서 저장하고 /login/oauth2/code/{provider} 콜백에서 꺼냄
+ * -> 어느 서버가 콜백을 받아도 처리 가능 (세션 고정/세션 저장소 불필요)
+ *
+ * 쿠키 값: base64url(IV 12바이트 + AES-256-GCM(짧은 키 JSON + 만료 시각))
+ * GCM 인증 태그로 위조/변조 검출, 만료 시각은 암호문 안에 있어 쿠키 maxAge와 별개로 서버에서 확인
+ * 콜백에서 쿠키를 지우지만 서버는 사용 여부를 기록하지 않음 -> 복사된 쿠키 값은 만료 시각까지 다시 복원 가능
+ * (인가 코드는 제공자가 한 번만 교환해 주고, state는 쿠키와 함께 묶여 있어야 통과)
+ *
+ * Secure 속성: oauth2.authorization-request.cookie-secure=true면 항상, 아니면 request.isSecure()
+ * TLS를 끝내는 프록시 뒤에서는 server.forward-headers-strategy=native(또는 framework)로 X-Forwarded-Proto를 반영해야 함
+ */
+@Slf4j
+@Component
+public class CookieAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private static final String COOKIE_NAME = "oauth2_auth_request";
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final SecretKey secretKey;
+    private final Duration maxAge;
+    private final boolean alwaysSecure;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public CookieAuthorizationRequestRepository(ObjectMapper objectMapper,
+                                                @Value("${jwt.secret}") String secret,
+                                                @Value("${oauth2.authorization-request.max-age-seconds:180}") long maxAgeSeconds,
+                                                @Value("${oauth2.authorization-request.cookie-secure:false}") boolean alwaysSecure) {
+        this.objectMapper = objectMapper;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.alwaysSecure = alwaysSecure;
+        try {
+            byte[] key = MessageDigest.getInstance("SHA-256")
+                    .digest(("oauth2-authorization-request:" + secret).getBytes(StandardCharsets.UTF_8));
+            this.secretKey = new SecretKeySpec(key, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 인가 요청 쿠키 암호화 키 생성 실패", e);
+        }
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String value = readCookie(request);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return deserialize(decrypt(value));
+        } catch (Exception e) {
+            log.debug("OAuth2 인가 요청 쿠키 복원 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            writeCookie(request, response, "", Duration.ZERO);
+            return;
+        }
+        try {
+            writeCookie(request, response, encrypt(serialize(authorizationRequest)), maxAge);
+        } catch (Exception e) {
+            throw new IllegalStateException("OAuth2 인가 요청 쿠키 저장 실패", e);
+        }
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (readCookie(request) != null) {
+            writeCookie(request, response, "", Duration.ZERO); // 브라우저가 다음 요청에 다시 보내지 않도록 삭제
+        }
+        return authorizationRequest;
+    }
+
+    // 짧은 키 JSON (쿠키 크기 최소화)
+    private byte[] serialize(OAuth2AuthorizationRequest authorizationRequest) throws Exception {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("u", authorizationRequest.getAuthorizationUri());
+        data.put("c", authorizationRequest.getClientId());
+        data.put("r", authorizationRequest.getRedirectUri());
+        data.put("s", authorizationRequest.getScopes());
+        data.put("t", authorizationRequest.getState());
+        data.put("p", authorizationRequest.getAdditionalParameters());
+        data.put("a", authorizationRequest.getAttributes());
+        data.put("q", authorizationRequest.getAuthorizationRequestUri());
+        data.put("e", System.currentTimeMillis() + maxAge.toMillis());
+        return objectMapper.writeValueAsBytes(data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private OAuth2AuthorizationRequest deserialize(byte[] json) throws Exception {
+        Map<String, Object> data = objectMapper.readValue(json, MAP_TYPE);
+        if (((Number) data.get("e")).longValue() < System.currentTimeMillis()) {
+            return null; // 만료
+        }
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri((String) data.get("u"))
+                .clientId((String) data.get("c"))
+                .redirectUri((String) data.get("r"))
+                .scopes(new LinkedHashSet<>((List<String>) data.getOrDefault("s", new ArrayList<>())))
+                .state((String) data.get("t"))
+                .additionalParameters((Map<String, Object>) data.getOrDefault("p", Map.of()))
+                .attributes((Map<String, Object>) data.getOrDefault("a", Map.of()))
+                .authorizationRequestUri((String) data.get("q"))
+                .build();
+    }
+
+    private String encrypt(byte[] plaintext) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BITS, iv));
+        byte[] ciphertext = cipher.doFinal(plaintext);
+        byte[] value = ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    private byte[] decrypt(String value) throws GeneralSecurityException {
+        byte[] decoded = Base64.getUrlDecoder().decode(value);
+        if (decoded.length <= IV_LENGTH) {
+            throw new GeneralSecurityException("잘못된 쿠키 값");
+        }
+        Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BITS, decoded, 0, IV_LENGTH));
+        return cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
+    }
+
+    private String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    // 제공자에서 돌아오는 콜백(최상위 GET 이동)에도 전송되도록 SameSite=Lax
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration age) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(alwaysSecure || request.isSecure())
+                .sameSite("Lax")
+                .maxAge(age)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -3,12 +3,15 @@ package site.login.global.oauth2;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException; // OAuth2AuthenticationException 임포트
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.logging.AuthEventType;
 
 import java.io.IOException;
 import java.net.URLEncoder;
@@ -16,8 +19,11 @@ import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class OAuth2AuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 
+    private final AuthEventLogger authEventLogger;
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, 
                                       HttpServletResponse response, 
@@ -33,8 +39,8 @@ public class OAuth2AuthenticationFailureHandler extends SimpleUrlAuthenticationF
                            ? oauth2Exception.getError().getDescription() 
                            : "OAuth2 로그인 처리 중 알 수 없는 오류 발생.";
             
-            log.error("OAuth2 로그인 실패 - 에러코드: {}, 설명: {}", 
-                    oauth2Exception.getError().getErrorCode(), 
+            authEventLogger.log(AuthEventType.OAUTH_LOGIN_FAILURE,
+                    oauth2Exception.getError().getErrorCode(),
                     oauth2Exception.getError().getDescription());
         } else {
             // 일반 AuthenticationException 처리
@@ -42,7 +48,7 @@ public class OAuth2AuthenticationFailureHandler extends SimpleUrlAuthenticationF
             errorMessage = exception.getMessage() != null && !exception.getMessage().isEmpty()
                            ? exception.getMessage()
                            : "일반 로그인 처리 중 알 수 없는 오류 발생.";
-            log.error("일반 인증 실패: {}", exception.getMessage());
+            authEventLogger.log(AuthEventType.OAUTH_LOGIN_FAILURE, null, exception.getMessage());
         }
         
         // 요청 정보 로깅 (디버깅용)
@@ -1,5 +1,27 @@
 package site.login.global.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import site.login.global.exception.ErrorCode;
+
+// 에러 응답 본문 {status, error, message, path}
+@Getter
+@RequiredArgsConstructor
+@JsonPropertyOrder({"status", "error", "message", "path"})
 public class ApiResponse {
 
+    private final int status;
+    private final String error;
+    private final String message;
+    private final String path;
+
+    public static ApiResponse error(ErrorCode errorCode, String path) {
+        return new ApiResponse(
+                errorCode.getStatus().value(),
+                errorCode.getStatus().getReasonPhrase(),
+                errorCode.getMessage(),
+                path
+        );
+    }
 }
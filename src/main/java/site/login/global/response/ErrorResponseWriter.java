@@ -0,0 +1,69 @@
+package site.login.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import site.login.global.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 에러 응답(ApiResponse) 작성
+ * ErrorCode별로 path 앞부분까지의 JSON을 시작 시 한 번만 직렬화해 두고,
+ * 요청마다 요청 경로만 이스케이프해서 이어 씀 (ObjectMapper, Map 생성 없음)
+ * ObjectMapper 설정(프로퍼티 이름 전략, 빈 값 제외 등)으로 본문이 "path":""} 로 끝나지 않으면 시작 실패
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EXPECTED_TAIL = "\"path\":\"\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final Map<ErrorCode, byte[]> prefixes = new EnumMap<>(ErrorCode.class);
+
+    // 애플리케이션 공용 ObjectMapper 사용 (응답 형식 설정 공유)
+    public ErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            // {"status":..,"error":..,"message":..,"path":""} 에서 마지막 "} 를 뗀 부분
+            byte[] body = objectMapper.writer()
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsBytes(ApiResponse.error(errorCode, ""));
+            if (!endsWith(body, EXPECTED_TAIL)) {
+                throw new IllegalStateException("에러 응답 템플릿이 \"path\":\"\"} 로 끝나지 않습니다 - "
+                        + errorCode + ": " + new String(body, StandardCharsets.UTF_8));
+            }
+            prefixes.put(errorCode, Arrays.copyOf(body, body.length - SUFFIX.length));
+        }
+    }
+
+    public void write(HttpServletRequest request, HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] prefix = prefixes.get(errorCode);
+        byte[] path = JsonStringEncoder.getInstance().quoteAsUTF8(request.getRequestURI());
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(prefix.length + path.length + SUFFIX.length);
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(prefix);
+        outputStream.write(path);
+        outputStream.write(SUFFIX);
+        outputStream.flush();
+    }
+
+    private static boolean endsWith(byte[] body, byte[] tail) {
+        return body.length >= tail.length
+                && Arrays.equals(body, body.length - tail.length, body.length, tail, 0, tail.length);
+    }
+}
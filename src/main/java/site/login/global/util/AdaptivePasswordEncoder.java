@@ -0,0 +1,71 @@
+package site.login.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * 서버 성능에 맞춰 BCrypt cost를 정하는 PasswordEncoder
+ * 저장 형식: {bcrypt}$2a$<cost>$... (접두사 없는 기존 BCrypt 해시도 그대로 검증)
+ * cost가 현재 설정보다 낮은 해시만 upgradeEncoding()이 true를 반환 -> 로그인 시 재해시
+ * (높은 cost는 그대로 둠: 서버마다 보정 결과가 달라도 서로의 해시를 계속 재해시하지 않도록)
+ */
+@Slf4j
+public class AdaptivePasswordEncoder extends DelegatingPasswordEncoder {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int CALIBRATION_STRENGTH = 10;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+
+    private AdaptivePasswordEncoder(int strength, BCryptPasswordEncoder bcrypt) {
+        super(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        setDefaultPasswordEncoderForMatches(bcrypt); // 접두사 없는 기존 해시
+        this.strength = strength;
+    }
+
+    // 고정 cost 사용
+    public static AdaptivePasswordEncoder withStrength(int strength) {
+        return new AdaptivePasswordEncoder(strength, new BCryptPasswordEncoder(strength));
+    }
+
+    /**
+     * 해시 1회가 targetMillis 이내가 되는 가장 높은 cost 선택 (minStrength ~ maxStrength)
+     * cost가 1 오를 때마다 연산 시간은 2배
+     */
+    public static AdaptivePasswordEncoder calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration"); // 워밍업
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            probe.encode("calibration");
+        }
+        double probeMillis = Math.max(0.1, (System.nanoTime() - startedAt) / 1_000_000.0 / CALIBRATION_ROUNDS);
+
+        int strength = CALIBRATION_STRENGTH + (int) Math.floor(Math.log(targetMillis / probeMillis) / Math.log(2));
+        strength = Math.max(minStrength, Math.min(maxStrength, strength));
+
+        log.info("BCrypt cost 보정 완료 - 기준 cost {}: {}ms, 목표: {}ms, 선택된 cost: {} (예상 {}ms)",
+                CALIBRATION_STRENGTH, String.format("%.1f", probeMillis), targetMillis, strength,
+                String.format("%.1f", probeMillis * Math.pow(2, strength - CALIBRATION_STRENGTH)));
+        return withStrength(strength);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String prefixEncodedPassword) {
+        if (prefixEncodedPassword == null || prefixEncodedPassword.isEmpty()) {
+            return false; // 소셜 로그인 사용자 (비밀번호 없음)
+        }
+        // 접두사 없는 해시, cost가 낮은 해시
+        return super.upgradeEncoding(prefixEncodedPassword);
+    }
+}
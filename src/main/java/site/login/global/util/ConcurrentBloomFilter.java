@@ -0,0 +1,94 @@
+package site.login.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 Bloom 필터 (추가만 가능, 삭제 불가)
+ * mightContain이 false면 확실히 없음, true면 있을 수도 있음 (오탐률 fpp)
+ * 비트 배열은 AtomicLongArray라서 여러 스레드가 동시에 추가/조회해도 안전
+ */
+public class ConcurrentBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public ConcurrentBloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("잘못된 Bloom 필터 설정입니다.");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) >>> 6));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long current = bits.get(word);
+            if ((current & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (a, b) -> a | b);
+            }
+        }
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 다른 필터의 항목을 모두 추가 (같은 설정으로 만든 필터끼리만 가능)
+    public void putAll(ConcurrentBloomFilter other) {
+        if (other.bitCount != bitCount || other.hashCount != hashCount) {
+            throw new IllegalArgumentException("설정이 다른 Bloom 필터는 합칠 수 없습니다.");
+        }
+        for (int word = 0; word < bits.length(); word++) {
+            long otherBits = other.bits.get(word);
+            if (otherBits != 0 && (bits.get(word) & otherBits) != otherBits) {
+                bits.getAndAccumulate(word, otherBits, (x, y) -> x | y);
+            }
+        }
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private long bitIndex(int combinedHash) {
+        return (combinedHash & 0x7fffffffL) % bitCount;
+    }
+
+    // FNV-1a 64비트 + 비트 섞기 (상위/하위 32비트를 두 개의 해시로 사용)
+    private static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,61 @@
+package site.login.global.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+public class DataIntegrityUtil {
+
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505"; // H2, PostgreSQL
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;            // MySQL, MariaDB
+
+    private DataIntegrityUtil() {
+    }
+
+    // 유니크 제약 위반 여부 (NOT NULL 등 다른 무결성 위반과 구분)
+    public static boolean isDuplicateKey(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DuplicateKeyException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                return UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                        || sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 지정한 유니크 제약 위반 여부 (같은 유니크 위반이어도 PK 충돌 등 다른 제약과 구분)
+     * Hibernate가 추출한 제약 이름 우선, 없으면 DB 오류 메시지에 제약 이름이 있는지 확인
+     * (MySQL: for key 'users.uk_users_email', PostgreSQL: "uk_users_email", H2: PUBLIC.UK_USERS_EMAIL_INDEX_...)
+     */
+    public static boolean isDuplicateKey(Throwable e, String constraintName) {
+        if (!isDuplicateKey(e)) {
+            return false;
+        }
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                if (name.equals(expected) || name.endsWith("." + expected)) {
+                    return true;
+                }
+            }
+            if (cause instanceof SQLException && cause.getMessage() != null) {
+                return cause.getMessage().toLowerCase(Locale.ROOT).contains(expected);
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package site.login.global.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 크기 제한 + 항목별 만료 시각을 가지는 스레드 안전 인메모리 캐시
+public class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> store = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    // 조회 (만료된 항목은 제거 후 null 반환)
+    public V get(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            store.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    // 저장 (expiresAtMillis 시각까지 유효)
+    public void put(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        if (store.size() >= maxSize) {
+            evict(now);
+        }
+        store.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    // 만료되지 않은 항목이 있는지 (적중/미스 통계에 포함하지 않음)
+    public boolean contains(K key) {
+        Entry<V> entry = store.get(key);
+        return entry != null && entry.expiresAt > System.currentTimeMillis();
+    }
+
+    public void remove(K key) {
+        store.remove(key);
+    }
+
+    public void clear() {
+        store.clear();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    // 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의 항목을 제거해 여유 공간 확보
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            store.values().removeIf(entry -> entry.expiresAt <= now);
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<Map.Entry<K, Entry<V>>> it = store.entrySet().iterator();
+            while (store.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
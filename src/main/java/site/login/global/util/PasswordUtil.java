@@ -1,5 +1,142 @@
 package site.login.global.util;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.metrics.AuthMetrics;
+
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀
+ * BCrypt 연산을 톰캣 요청 스레드 대신 크기가 제한된 풀에서 실행하고,
+ * 대기열이 가득 차거나 대기 시간이 초과되면 바로 503(PASSWORD_HASHING_BUSY)으로 거절
+ */
+@Slf4j
+@Component
 public class PasswordUtil {
 
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final String dummyHash; // 없는 사용자 로그인 시 비교용 (같은 cost로 생성)
+    private final AuthMetrics authMetrics; // 대기열에서 기다린 시간 / 실제 해시 연산 시간
+
+    private final LongAdder rejected = new LongAdder();
+
+    public PasswordUtil(PasswordEncoder passwordEncoder,
+                        @Value("${password.hash.pool-size:0}") int poolSize,
+                        @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                        @Value("${password.hash.max-wait-ms:2000}") long maxWaitMillis,
+                        AuthMetrics authMetrics) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitMillis = maxWaitMillis;
+        this.authMetrics = authMetrics;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        log.info("비밀번호 해시 풀 생성 - 스레드: {}, 대기열: {}", threads, queueCapacity);
+    }
+
+    // 비밀번호 암호화
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 확인
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비교할 해시가 없을 때(없는 이메일, 비밀번호 없는 소셜 사용자) 같은 비용의 비교를 수행
+     * 응답 시간으로 가입 여부를 알 수 없도록 실제 비교와 같은 풀, 같은 cost 사용. 항상 false
+     */
+    public boolean matchesDummy(String rawPassword) {
+        execute(() -> passwordEncoder.matches(rawPassword != null ? rawPassword : "", dummyHash));
+        return false;
+    }
+
+    // 저장된 해시의 재해시 필요 여부 (해시 연산 없음)
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                authMetrics.recordPasswordWait(startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    authMetrics.recordPasswordHash(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 중 오류 발생", cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package site.login.global.util;
+
+/**
+ * 경로 접두사 / 정확 일치 매칭용 트라이 (생성 후 불변, 조회 시 객체 생성 없음)
+ * 접두사 "/api/auth/" -> "/api/auth/login" 일치, 정확 일치 "/error" -> "/error"만 일치
+ */
+public final class PathPrefixTrie {
+
+    private final Node root;
+
+    private PathPrefixTrie(Node root) {
+        this.root = root;
+    }
+
+    public static PathPrefixTrie compile(String[] prefixes, String[] exactPaths) {
+        Node root = new Node();
+        for (String prefix : prefixes) {
+            root.insert(prefix).prefixEnd = true;
+        }
+        for (String path : exactPaths) {
+            root.insert(path).exactEnd = true;
+        }
+        return new PathPrefixTrie(root);
+    }
+
+    public boolean matches(CharSequence path) {
+        if (path == null) {
+            return false;
+        }
+        Node node = root;
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            if (node.prefixEnd) {
+                return true;
+            }
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.prefixEnd || node.exactEnd;
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean prefixEnd;
+        private boolean exactEnd;
+
+        private Node child(char c) {
+            char[] k = keys;
+            for (int i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node insert(String path) {
+            Node node = this;
+            for (int i = 0; i < path.length(); i++) {
+                char c = path.charAt(i);
+                Node next = node.child(c);
+                if (next == null) {
+                    next = new Node();
+                    int n = node.keys.length;
+                    char[] keys = new char[n + 1];
+                    Node[] children = new Node[n + 1];
+                    System.arraycopy(node.keys, 0, keys, 0, n);
+                    System.arraycopy(node.children, 0, children, 0, n);
+                    keys[n] = c;
+                    children[n] = next;
+                    node.keys = keys;
+                    node.children = children;
+                }
+                node = next;
+            }
+            return node;
+        }
+    }
+}
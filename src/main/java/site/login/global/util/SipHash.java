@@ -0,0 +1,88 @@
+package site.login.global.util;
+
+import java.security.SecureRandom;
+
+/**
+ * SipHash-2-4 (키가 있는 64비트 해시)
+ * 키를 모르면 충돌하는 입력을 미리 만들 수 없음 -> 외부 입력(IP, 이메일)을 해시 테이블 칸에 대응시킬 때 사용
+ */
+public final class SipHash {
+
+    private final long k0;
+    private final long k1;
+
+    public SipHash(long k0, long k1) {
+        this.k0 = k0;
+        this.k1 = k1;
+    }
+
+    // 임의 키 (서버 시작마다 새로 생성)
+    public static SipHash randomKey() {
+        SecureRandom random = new SecureRandom();
+        return new SipHash(random.nextLong(), random.nextLong());
+    }
+
+    public long hash(byte[] data) {
+        State s = new State(k0, k1);
+        int length = data.length;
+        int end = length - (length & 7);
+        for (int i = 0; i < end; i += 8) {
+            long m = littleEndian(data, i, 8);
+            s.v3 ^= m;
+            s.round();
+            s.round();
+            s.v0 ^= m;
+        }
+        long last = ((long) length << 56) | littleEndian(data, end, length - end);
+        s.v3 ^= last;
+        s.round();
+        s.round();
+        s.v0 ^= last;
+
+        s.v2 ^= 0xff;
+        s.round();
+        s.round();
+        s.round();
+        s.round();
+        return s.v0 ^ s.v1 ^ s.v2 ^ s.v3;
+    }
+
+    private static long littleEndian(byte[] data, int offset, int count) {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value |= (data[offset + i] & 0xffL) << (8 * i);
+        }
+        return value;
+    }
+
+    private static final class State {
+        private long v0;
+        private long v1;
+        private long v2;
+        private long v3;
+
+        private State(long k0, long k1) {
+            v0 = 0x736f6d6570736575L ^ k0;
+            v1 = 0x646f72616e646f6dL ^ k1;
+            v2 = 0x6c7967656e657261L ^ k0;
+            v3 = 0x7465646279746573L ^ k1;
+        }
+
+        private void round() {
+            v0 += v1;
+            v1 = Long.rotateLeft(v1, 13);
+            v1 ^= v0;
+            v0 = Long.rotateLeft(v0, 32);
+            v2 += v3;
+            v3 = Long.rotateLeft(v3, 16);
+            v3 ^= v2;
+            v0 += v3;
+            v3 = Long.rotateLeft(v3, 21);
+            v3 ^= v0;
+            v2 += v1;
+            v1 = Long.rotateLeft(v1, 17);
+            v1 ^= v2;
+            v2 = Long.rotateLeft(v2, 32);
+        }
+    }
+}
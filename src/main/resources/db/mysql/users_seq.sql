@@ -0,0 +1,17 @@
+-- users.id 시퀀스 테이블 (MySQL은 시퀀스가 없어 Hibernate가 users_seq 테이블로 대신함)
+-- IDENTITY(AUTO_INCREMENT)로 만든 기존 DB에 한 번 실행 (애플리케이션을 모두 내린 상태에서)
+--
+-- pooled 옵티마이저는 읽은 next_val 값에서 49를 뺀 값부터 50개를 사용하므로
+-- next_val 은 MAX(id) + 50 이상이어야 기존 id와 겹치지 않음 (User.ID_ALLOCATION_SIZE = 50)
+-- 이미 테이블이 있으면 더 큰 값을 유지 (다시 실행해도 값이 줄어들지 않음)
+
+CREATE TABLE IF NOT EXISTS users_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+SET @users_next_val = GREATEST(
+        (SELECT COALESCE(MAX(id), 0) + 50 FROM users),
+        (SELECT COALESCE(MAX(next_val), 0) FROM users_seq));
+
+DELETE FROM users_seq;
+INSERT INTO users_seq (next_val) VALUES (@users_next_val);
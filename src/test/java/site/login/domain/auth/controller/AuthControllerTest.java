@@ -0,0 +1,67 @@
+package site.login.domain.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import site.login.domain.auth.dto.SignUpRequestDto;
+import site.login.domain.auth.ratelimit.ClientIpResolver;
+import site.login.domain.auth.ratelimit.LoginRateLimiter;
+import site.login.domain.auth.service.AuthService;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.exception.GlobalExceptionHandler;
+import site.login.global.metrics.AuthMetrics;
+import site.login.global.response.ErrorResponseWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerTest {
+
+    private final AuthService authService = mock(AuthService.class);
+    private final LoginRateLimiter loginRateLimiter = mock(LoginRateLimiter.class);
+    private final AuthController authController = new AuthController(
+            authService, loginRateLimiter, mock(ClientIpResolver.class),
+            new AuthMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void 중복_이메일_가입은_409로_응답한다() {
+        doThrow(new CustomException(ErrorCode.DUPLICATE_EMAIL)).when(authService).signUp(any(SignUpRequestDto.class));
+
+        ResponseEntity<String> response = authController.signUp(
+                new SignUpRequestDto("user@example.com", "password123", "사용자"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isEqualTo(ErrorCode.DUPLICATE_EMAIL.getMessage());
+    }
+
+    @Test
+    void 로그인_시도_제한은_ApiResponse_본문으로_429를_응답한다() throws Exception {
+        doThrow(new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS))
+                .when(loginRateLimiter).check(any(), anyString());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new GlobalExceptionHandler(new ErrorResponseWriter(new ObjectMapper())))
+                .build();
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"user@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.message").value(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS.getMessage()))
+                .andExpect(jsonPath("$.path").value("/api/auth/login"));
+    }
+}
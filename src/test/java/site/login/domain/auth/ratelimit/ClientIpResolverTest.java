@@ -0,0 +1,50 @@
+package site.login.domain.auth.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "127.0.0.1/32"));
+
+    @Test
+    void 신뢰하지_않는_주소에서_온_요청은_헤더를_무시한다() {
+        MockHttpServletRequest request = request("203.0.113.7", "198.51.100.1");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 로드_밸런서를_거친_요청은_클라이언트_주소를_사용한다() {
+        MockHttpServletRequest request = request("10.0.0.5", "203.0.113.7");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 클라이언트가_보낸_X_Forwarded_For_앞부분은_사용하지_않는다() {
+        // 클라이언트가 "1.2.3.4"를 넣어 보내고, 로드 밸런서가 실제 주소를 뒤에 추가
+        MockHttpServletRequest request = request("10.0.0.5", "1.2.3.4, 203.0.113.7, 10.0.0.9");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 헤더가_없거나_잘못된_값이면_직접_연결한_주소를_사용한다() {
+        assertThat(resolver.resolve(request("10.0.0.5", null))).isEqualTo("10.0.0.5");
+        assertThat(resolver.resolve(request("10.0.0.5", "evil.example.com"))).isEqualTo("10.0.0.5");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader(ClientIpResolver.FORWARDED_FOR, forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package site.login.domain.auth.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.logging.AuthEventLogger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private static LoginRateLimiter limiter(boolean enabled) {
+        return new LoginRateLimiter(new LocalRateLimitStore(16384), new AuthEventLogger(20),
+                enabled, 3, 60_000, 2, 60_000);
+    }
+
+    @Test
+    void 이메일별_제한을_넘으면_429() {
+        LoginRateLimiter limiter = limiter(true);
+
+        limiter.check("10.0.0.1", "user@example.com");
+        limiter.check("10.0.0.2", "USER@example.com "); // 대소문자/공백 무시
+
+        assertThatThrownBy(() -> limiter.check("10.0.0.3", "user@example.com"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        assertThat(limiter.getRejectedByEmailCount()).isEqualTo(1);
+    }
+
+    @Test
+    void IP_제한에_걸리면_이메일_버킷은_소비하지_않는다() {
+        LoginRateLimiter limiter = limiter(true);
+        for (int i = 0; i < 3; i++) {
+            limiter.check("10.0.0.1", "user" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "victim@example.com"))
+                .isInstanceOf(CustomException.class);
+        assertThat(limiter.getRejectedByIpCount()).isEqualTo(1);
+
+        // victim@example.com 버킷은 그대로 (2회 허용)
+        limiter.check("10.0.0.2", "victim@example.com");
+        limiter.check("10.0.0.3", "victim@example.com");
+    }
+
+    @Test
+    void 다른_이메일_시도는_서로의_제한에_영향을_주지_않는다() {
+        LoginRateLimiter limiter = limiter(true);
+        for (int i = 0; i < 10_000; i++) {
+            try {
+                limiter.check("10.1." + (i / 250) + "." + (i % 250), "spray" + i + "@example.com");
+            } catch (CustomException ignored) {
+                // IP 제한
+            }
+        }
+
+        assertThatCode(() -> limiter.check("192.0.2.1", "user@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 비활성화하면_검사하지_않는다() {
+        LoginRateLimiter limiter = limiter(false);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 10; i++) {
+                limiter.check("10.0.0.1", "user@example.com");
+            }
+        }).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,91 @@
+package site.login.domain.auth.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 임베디드 Redis에서 Lua 토큰 버킷 스크립트를 그대로 실행
+class RedisRateLimitStoreTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void 버킷_크기만큼_연속으로_허용하고_그_다음은_거부한다() {
+        RedisRateLimitStore store = new RedisRateLimitStore(redisTemplate);
+        RateLimitPolicy policy = new RateLimitPolicy("burst", 3, 60_000);
+
+        assertThat(store.tryConsume(policy, "1.2.3.4")).isTrue();
+        assertThat(store.tryConsume(policy, "1.2.3.4")).isTrue();
+        assertThat(store.tryConsume(policy, "1.2.3.4")).isTrue();
+        assertThat(store.tryConsume(policy, "1.2.3.4")).isFalse();
+
+        // 다른 키는 별도 버킷
+        assertThat(store.tryConsume(policy, "5.6.7.8")).isTrue();
+    }
+
+    @Test
+    void 시간이_지나면_토큰이_다시_채워진다() throws InterruptedException {
+        RedisRateLimitStore store = new RedisRateLimitStore(redisTemplate);
+        RateLimitPolicy policy = new RateLimitPolicy("refill", 2, 200);
+
+        assertThat(store.tryConsume(policy, "user")).isTrue();
+        assertThat(store.tryConsume(policy, "user")).isTrue();
+        assertThat(store.tryConsume(policy, "user")).isFalse();
+
+        // 1개 채워질 시간만큼 대기 -> 1번만 허용
+        Thread.sleep(250);
+        assertThat(store.tryConsume(policy, "user")).isTrue();
+        assertThat(store.tryConsume(policy, "user")).isFalse();
+    }
+
+    @Test
+    void 키는_버킷이_가득_찰_시간이_지나면_만료된다() throws InterruptedException {
+        RedisRateLimitStore store = new RedisRateLimitStore(redisTemplate);
+        RateLimitPolicy policy = new RateLimitPolicy("expiry", 2, 100);
+        String redisKey = "login-rate:expiry:user";
+
+        store.tryConsume(policy, "user");
+        store.tryConsume(policy, "user");
+
+        // 빈 버킷이 가득 차는 시간(2 x 100ms) + 1초 여유
+        Long ttl = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(1_200);
+
+        long deadline = System.currentTimeMillis() + 3_000;
+        while (Boolean.TRUE.equals(redisTemplate.hasKey(redisKey)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(redisTemplate.hasKey(redisKey)).isFalse();
+    }
+}
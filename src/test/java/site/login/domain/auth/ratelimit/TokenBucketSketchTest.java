@@ -0,0 +1,90 @@
+package site.login.domain.auth.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketSketchTest {
+
+    private static final RateLimitPolicy EMAIL_POLICY = new RateLimitPolicy("email", 5, 60_000);
+
+    @Test
+    void 용량만큼_허용한_뒤_거절하고_시간이_지나면_다시_채워진다() {
+        TokenBucketSketch sketch = new TokenBucketSketch(EMAIL_POLICY, 16384);
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(sketch.tryConsume("user@example.com", now)).isTrue();
+        }
+        assertThat(sketch.tryConsume("user@example.com", now)).isFalse();
+
+        assertThat(sketch.tryConsume("user@example.com", now + 60_000)).isTrue();
+        assertThat(sketch.tryConsume("user@example.com", now + 60_000)).isFalse();
+    }
+
+    @Test
+    void 다른_키를_소비해도_내_버킷은_줄지_않는다() {
+        TokenBucketSketch sketch = new TokenBucketSketch(EMAIL_POLICY, 1024);
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < 100_000; i++) {
+            sketch.tryConsume("spray" + i + "@example.com", now);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(sketch.tryConsume("user@example.com", now)).isTrue();
+        }
+        assertThat(sketch.tryConsume("user@example.com", now)).isFalse();
+    }
+
+    @Test
+    void 많은_키를_뿌려도_소진된_버킷은_밀려나지_않는다() {
+        TokenBucketSketch sketch = new TokenBucketSketch(EMAIL_POLICY, 1024);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            sketch.tryConsume("victim@example.com", now);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            sketch.tryConsume("spray" + i + "@example.com", now);
+        }
+
+        assertThat(sketch.tryConsume("victim@example.com", now)).isFalse();
+    }
+
+    @Test
+    void 동시에_소비해도_용량을_넘지_않는다() throws InterruptedException {
+        TokenBucketSketch sketch = new TokenBucketSketch(new RateLimitPolicy("ip", 100, 3_600_000), 1024);
+        long now = System.currentTimeMillis();
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    if (sketch.tryConsume("10.0.0.1", now)) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
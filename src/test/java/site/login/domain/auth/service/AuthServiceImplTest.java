@@ -0,0 +1,104 @@
+package site.login.domain.auth.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import site.login.domain.auth.audit.LoginAuditPipeline;
+import site.login.domain.auth.dto.SignUpRequestDto;
+import site.login.domain.user.cache.RegisteredEmailFilter;
+import site.login.domain.user.cache.UserCache;
+import site.login.domain.user.entity.User;
+import site.login.domain.user.repository.UserRepository;
+import site.login.domain.user.service.UserService;
+import site.login.global.datasource.ReadYourWritesTracker;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.jwt.JwtUtil;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.util.PasswordUtil;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+    @Mock
+    private UserService userService;
+    @Mock
+    private PasswordUtil passwordUtil;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private LoginAuditPipeline loginAuditPipeline;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private AuthEventLogger authEventLogger;
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    private final SignUpRequestDto request = new SignUpRequestDto("user@example.com", "password123", "사용자");
+
+    @Test
+    void 이메일_유니크_제약_위반은_409_DUPLICATE_EMAIL() {
+        when(passwordUtil.encode(anyString())).thenReturn("{bcrypt}encoded");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation(
+                new SQLException("Duplicate entry 'user@example.com' for key 'users.uk_users_email'", "23000", 1062),
+                "uk_users_email"));
+
+        assertThatThrownBy(() -> authService.signUp(request))
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> {
+                    ErrorCode errorCode = ((CustomException) e).getErrorCode();
+                    assertThat(errorCode).isEqualTo(ErrorCode.DUPLICATE_EMAIL);
+                    assertThat(errorCode.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+                });
+    }
+
+    @Test
+    void 유니크_제약이_아닌_무결성_위반은_그대로_던진다() {
+        when(passwordUtil.encode(anyString())).thenReturn("{bcrypt}encoded");
+        DataIntegrityViolationException notNull = violation(
+                new SQLException("Column 'name' cannot be null", "23000", 1048), null);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(notNull);
+
+        assertThatThrownBy(() -> authService.signUp(request)).isSameAs(notNull);
+    }
+
+    @Test
+    void 기본_키_충돌은_이메일_중복이_아니므로_그대로_던진다() {
+        when(passwordUtil.encode(anyString())).thenReturn("{bcrypt}encoded");
+        DataIntegrityViolationException primaryKey = violation(
+                new SQLException("Duplicate entry '51' for key 'users.PRIMARY'", "23000", 1062), "PRIMARY");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(primaryKey);
+
+        assertThatThrownBy(() -> authService.signUp(request)).isSameAs(primaryKey);
+    }
+
+    // Hibernate가 던지는 형태 (DataIntegrityViolationException <- ConstraintViolationException <- SQLException)
+    private static DataIntegrityViolationException violation(SQLException sqlException, String constraintName) {
+        ConstraintViolationException hibernate =
+                new ConstraintViolationException(sqlException.getMessage(), sqlException, constraintName);
+        return new DataIntegrityViolationException("could not execute statement", hibernate);
+    }
+}
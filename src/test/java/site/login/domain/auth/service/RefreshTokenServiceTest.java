@@ -0,0 +1,82 @@
+package site.login.domain.auth.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.login.domain.auth.entity.RefreshToken;
+import site.login.domain.auth.entity.RefreshTokenStatus;
+import site.login.domain.auth.repository.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = "test-secret-key-which-is-long-enough-for-hs256-0123456789";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private final RefreshTokenIndex refreshTokenIndex = new RefreshTokenIndex();
+
+    private RefreshTokenService service() {
+        return new RefreshTokenService(refreshTokenRepository, refreshTokenIndex, SECRET, 60_000);
+    }
+
+    @Test
+    void 다른_서버에서_발급된_토큰은_DB에서_읽어_교체한다() {
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(token(RefreshTokenStatus.ACTIVE, LocalDateTime.now().plusMinutes(5))));
+        when(refreshTokenRepository.updateActiveStatus(anyString(), eq(RefreshTokenStatus.ROTATED))).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = service().rotate("issued-on-another-node");
+
+        assertThat(rotation.getUserId()).isEqualTo(7L);
+        assertThat(rotation.getRefreshToken()).isNotBlank();
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void 다른_서버에서_이미_교체된_토큰을_다시_쓰면_묶음_전체를_폐기한다() {
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(token(RefreshTokenStatus.ROTATED, LocalDateTime.now().plusMinutes(5))));
+
+        assertThatThrownBy(() -> service().rotate("rotated-on-another-node"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void DB에도_없거나_만료된_토큰은_거부한다() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service().rotate("unknown")).isInstanceOf(IllegalArgumentException.class);
+
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(token(RefreshTokenStatus.ACTIVE, LocalDateTime.now().minusMinutes(1))));
+        assertThatThrownBy(() -> service().rotate("expired")).isInstanceOf(IllegalArgumentException.class);
+
+        verify(refreshTokenRepository, never()).updateActiveStatus(anyString(), any());
+    }
+
+    private static RefreshToken token(RefreshTokenStatus status, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .userId(7L)
+                .tokenHash("hash")
+                .familyId("family-1")
+                .status(status)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
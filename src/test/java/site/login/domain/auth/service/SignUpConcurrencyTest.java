@@ -0,0 +1,116 @@
+package site.login.domain.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import site.login.domain.auth.audit.LoginAuditPipeline;
+import site.login.domain.auth.dto.SignUpRequestDto;
+import site.login.domain.user.cache.RegisteredEmailFilter;
+import site.login.domain.user.cache.UserCache;
+import site.login.domain.user.repository.UserRepository;
+import site.login.domain.user.service.UserService;
+import site.login.global.datasource.ReadYourWritesTracker;
+import site.login.global.exception.CustomException;
+import site.login.global.exception.ErrorCode;
+import site.login.global.jwt.JwtUtil;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.util.PasswordUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 이메일로 동시에 가입 (임베디드 DB의 uk_users_email 유니크 인덱스만으로 중복을 막는지 확인)
+ * 각 스레드가 자기 트랜잭션으로 INSERT -> 1건만 성공, 나머지는 DUPLICATE_EMAIL
+ */
+@DataJpaTest
+@Import(AuthServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SignUpConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private UserCache userCache;
+    @MockBean
+    private RegisteredEmailFilter registeredEmailFilter;
+    @MockBean
+    private UserService userService;
+    @MockBean
+    private PasswordUtil passwordUtil;
+    @MockBean
+    private JwtUtil jwtUtil;
+    @MockBean
+    private LoginAuditPipeline loginAuditPipeline;
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+    @MockBean
+    private AuthEventLogger authEventLogger;
+    @MockBean
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 같은_이메일로_동시에_가입하면_한_건만_성공하고_나머지는_DUPLICATE_EMAIL() throws Exception {
+        when(passwordUtil.encode(anyString())).thenReturn("{bcrypt}encoded");
+        SignUpRequestDto request = new SignUpRequestDto("race@example.com", "password123", "사용자");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ErrorCode>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        authService.signUp(request);
+                        return null; // 성공
+                    } catch (CustomException e) {
+                        return e.getErrorCode();
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int duplicates = 0;
+            for (Future<ErrorCode> result : results) {
+                ErrorCode errorCode = result.get(30, TimeUnit.SECONDS);
+                if (errorCode == null) {
+                    succeeded++;
+                } else if (errorCode == ErrorCode.DUPLICATE_EMAIL) {
+                    duplicates++;
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(duplicates).isEqualTo(THREADS - 1);
+            assertThat(userRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package site.login.domain.oauth.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import site.login.domain.auth.audit.LoginAuditPipeline;
+import site.login.domain.oauth.attribute.OAuthProviderProperties;
+import site.login.domain.oauth.attribute.OAuthUserInfoRegistry;
+import site.login.domain.oauth.dto.OAuthUserInfo;
+import site.login.domain.user.entity.User;
+import site.login.global.logging.AuthEventLogger;
+import site.login.global.metrics.AuthMetrics;
+import site.login.global.util.VirtualThreads;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 느린 로컬 제공자(사용자 정보 API 200ms)로 소셜 로그인 콜백을 동시에 처리
+ * 제공자 호출이 서로를 막지 않고 동시에 진행되는지 확인 (Java 21 이상은 가상 스레드, 그 외는 플랫폼 스레드)
+ */
+class CustomOAuth2UserServiceLoadTest {
+
+    private static final int CALLBACKS = 100;
+    private static final long PROVIDER_DELAY_MILLIS = 200;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer provider;
+    private CustomOAuth2UserService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        provider = HttpServer.create(new InetSocketAddress("localhost", 0), CALLBACKS);
+        provider.setExecutor(Executors.newCachedThreadPool());
+        provider.createContext("/userinfo", this::userInfo);
+        provider.start();
+
+        OAuthUserUpsertService upsertService = mock(OAuthUserUpsertService.class);
+        when(upsertService.saveOrUpdateUser(any(OAuthUserInfo.class))).thenAnswer(invocation -> {
+            OAuthUserInfo info = invocation.getArgument(0);
+            return User.builder()
+                    .id(Long.valueOf(info.getId()))
+                    .email(info.getEmail())
+                    .name(info.getName())
+                    .provider(info.getProvider())
+                    .providerId(info.getId())
+                    .build();
+        });
+
+        service = new CustomOAuth2UserService(
+                new OAuthUserInfoRegistry(new OAuthProviderProperties()),
+                upsertService,
+                mock(LoginAuditPipeline.class),
+                new AuthEventLogger(20),
+                new AuthMetrics(meterRegistry),
+                3_000, 5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.stop(0);
+    }
+
+    @Test
+    void 느린_제공자_호출이_동시에_진행된다() throws Exception {
+        ExecutorService callbacks = VirtualThreads.isSupported()
+                ? VirtualThreads.newThreadPerTaskExecutor("oauth-callback-")
+                : Executors.newFixedThreadPool(CALLBACKS);
+        List<Future<OAuth2User>> results = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        try {
+            for (int i = 1; i <= CALLBACKS; i++) {
+                OAuth2UserRequest request = userRequest("token-" + i);
+                results.add(callbacks.submit(() -> service.loadUser(request)));
+            }
+            for (int i = 0; i < CALLBACKS; i++) {
+                assertThat(results.get(i).get(30, TimeUnit.SECONDS).getName()).isEqualTo(String.valueOf(i + 1));
+            }
+        } finally {
+            callbacks.shutdownNow();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 순서대로 처리하면 100 x 200ms = 20초
+        assertThat(elapsedMillis).isLessThan(CALLBACKS * PROVIDER_DELAY_MILLIS / 4);
+        assertThat(peakInFlight.get()).isGreaterThanOrEqualTo(CALLBACKS / 2);
+        assertThat(meterRegistry.get("auth.oauth.provider.fetch").tag("provider", "google").timer().count())
+                .isEqualTo(CALLBACKS);
+    }
+
+    // 액세스 토큰 번호를 sub로 돌려주는 구글 형식 사용자 정보
+    private void userInfo(HttpExchange exchange) throws IOException {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(PROVIDER_DELAY_MILLIS);
+            String token = exchange.getRequestHeaders().getFirst("Authorization").substring("Bearer token-".length());
+            byte[] body = ("{\"sub\":\"" + token + "\",\"name\":\"사용자" + token + "\",\"email\":\"user" + token + "@example.com\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private OAuth2UserRequest userRequest(String accessToken) {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("google")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost/login/oauth2/code/google")
+                .authorizationUri("http://localhost/authorize")
+                .tokenUri("http://localhost/token")
+                .userInfoUri("http://localhost:" + provider.getAddress().getPort() + "/userinfo")
+                .userNameAttributeName("sub")
+                .build();
+        OAuth2AccessToken token = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, accessToken,
+                Instant.now(), Instant.now().plusSeconds(60));
+        return new OAuth2UserRequest(registration, token);
+    }
+}
@@ -0,0 +1,78 @@
+package site.login.domain.user.cache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+import site.login.domain.user.entity.Role;
+import site.login.domain.user.repository.UserRepository;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 임베디드 Redis에 두 서버(UserCache + 무효화 구독)를 붙여서 한 서버의 무효화가 다른 서버에 전달되는지 확인
+class RedisUserCacheInvalidatorTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void 한_서버의_무효화가_다른_서버_캐시에서도_제거된다() throws Exception {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findSnapshotByEmail(anyString())).thenReturn(Optional.of(
+                new UserSnapshot(1L, "user@example.com", "{bcrypt}old", "사용자", Role.USER, null, null, true, 0, null)));
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        UserCache nodeA = new UserCache(userRepository, 100, 60, 0);
+        UserCache nodeB = new UserCache(userRepository, 100, 60, 0);
+        RedisUserCacheInvalidator invalidatorA = new RedisUserCacheInvalidator(redisTemplate, connectionFactory, nodeA);
+        RedisUserCacheInvalidator invalidatorB = new RedisUserCacheInvalidator(redisTemplate, connectionFactory, nodeB);
+        try {
+            nodeB.findByEmail("user@example.com");
+            assertThat(nodeB.size()).isEqualTo(1);
+
+            // A 서버에서 수정 -> 커밋 이후 전파
+            invalidatorA.publish(1L);
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (nodeB.size() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(nodeB.size()).isZero();
+            nodeB.findByEmail("user@example.com");
+            verify(userRepository, times(2)).findSnapshotByEmail("user@example.com");
+        } finally {
+            invalidatorA.shutdown();
+            invalidatorB.shutdown();
+        }
+    }
+}
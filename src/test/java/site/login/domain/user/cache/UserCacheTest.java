@@ -0,0 +1,62 @@
+package site.login.domain.user.cache;
+
+import org.junit.jupiter.api.Test;
+import site.login.domain.user.entity.Role;
+import site.login.domain.user.repository.UserRepository;
+import site.login.global.datasource.DataSourceRouting;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    UserCacheTest() {
+        when(userRepository.findSnapshotByEmail(anyString())).thenAnswer(invocation -> {
+            String email = invocation.getArgument(0);
+            return Optional.of(snapshot(Long.parseLong(email.substring(0, email.indexOf('@'))), email));
+        });
+    }
+
+    @Test
+    void 캐시에서_빠진_사용자의_역색인만_정리하고_캐시는_비우지_않는다() {
+        UserCache cache = new UserCache(userRepository, 10, 60, 0);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.findByEmail(i + "@example.com");
+            assertThat(cache.indexSize()).isLessThanOrEqualTo(40);
+        }
+        cache.findByEmail("999@example.com");
+
+        // 마지막에 저장한 사용자는 정리 이후에도 캐시에 남아 있고, 무효화하면 다시 조회
+        verify(userRepository, times(1)).findSnapshotByEmail("999@example.com");
+        cache.evict(999L);
+        cache.findByEmail("999@example.com");
+        verify(userRepository, times(2)).findSnapshotByEmail("999@example.com");
+    }
+
+    @Test
+    void 무효화_직후에는_프라이머리_조회만_캐시한다() {
+        UserCache cache = new UserCache(userRepository, 10, 60, 60_000);
+        cache.evict(1L);
+
+        cache.findByEmail("1@example.com");
+        cache.findByEmail("1@example.com");
+        verify(userRepository, times(2)).findSnapshotByEmail("1@example.com");
+
+        DataSourceRouting.onPrimary(() -> cache.findByEmail("1@example.com"));
+        cache.findByEmail("1@example.com");
+        verify(userRepository, times(3)).findSnapshotByEmail("1@example.com");
+    }
+
+    private static UserSnapshot snapshot(Long id, String email) {
+        return new UserSnapshot(id, email, "{bcrypt}hash", "사용자", Role.USER, null, null, true, 0, null);
+    }
+}
@@ -0,0 +1,72 @@
+package site.login.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerTest {
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(3000);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 쓰기_이후_같은_요청과_응답_쿠키에_시각이_남는다() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        bind(new MockHttpServletRequest(), response);
+
+        tracker.markWritten();
+
+        assertThat(tracker.isRecent()).isTrue();
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).startsWith(ReadYourWritesTracker.COOKIE_NAME + "=");
+    }
+
+    @Test
+    void 다른_서버로_간_다음_요청도_쿠키로_프라이머리_조회를_판단한다() {
+        // 이 서버의 메모리에는 쓰기 기록이 없고 쿠키만 있음
+        bind(withCookie(Long.toString(System.currentTimeMillis())), new MockHttpServletResponse());
+
+        assertThat(tracker.isRecent()).isTrue();
+    }
+
+    @Test
+    void 창을_벗어났거나_잘못된_쿠키는_무시한다() {
+        long now = System.currentTimeMillis();
+
+        bind(withCookie(Long.toString(now - 10_000)), new MockHttpServletResponse());
+        assertThat(tracker.isRecent()).isFalse();
+
+        bind(withCookie(Long.toString(now + 60_000)), new MockHttpServletResponse());
+        assertThat(tracker.isRecent()).isFalse();
+
+        bind(withCookie("abc"), new MockHttpServletResponse());
+        assertThat(tracker.isRecent()).isFalse();
+    }
+
+    @Test
+    void 요청_밖에서는_레플리카를_사용한다() {
+        tracker.markWritten();
+
+        assertThat(tracker.isRecent()).isFalse();
+    }
+
+    private static MockHttpServletRequest withCookie(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME, value));
+        return request;
+    }
+
+    private static void bind(MockHttpServletRequest request, MockHttpServletResponse response) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+}
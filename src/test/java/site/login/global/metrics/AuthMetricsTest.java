@@ -0,0 +1,45 @@
+package site.login.global.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AuthMetrics authMetrics = new AuthMetrics(registry);
+
+    @Test
+    void 비밀번호_해시와_대기_시간을_Timer로_기록한다() {
+        authMetrics.recordPasswordWait(TimeUnit.MILLISECONDS.toNanos(30));
+        authMetrics.recordPasswordHash(TimeUnit.MILLISECONDS.toNanos(80));
+        authMetrics.recordPasswordHash(TimeUnit.MILLISECONDS.toNanos(120));
+
+        Timer hash = registry.get("auth.password.hash").timer();
+        assertThat(hash.count()).isEqualTo(2);
+        assertThat(hash.max(TimeUnit.MILLISECONDS)).isEqualTo(120);
+        assertThat(registry.get("auth.password.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 히스토그램은_정한_SLO_버킷만_기록한다() {
+        authMetrics.recordJwtParse(TimeUnit.MICROSECONDS.toNanos(80));
+        authMetrics.recordLogin("success", TimeUnit.MILLISECONDS.toNanos(150));
+        authMetrics.recordLogin("failure", TimeUnit.MILLISECONDS.toNanos(150));
+
+        CountAtBucket[] parseBuckets = registry.get("auth.jwt.parse").timer().takeSnapshot().histogramCounts();
+        assertThat(parseBuckets).hasSize(7);
+        // 80µs -> 100µs 이상 버킷에만 포함
+        assertThat(parseBuckets[0].count()).isZero();
+        assertThat(parseBuckets[1].count()).isEqualTo(1);
+
+        for (Timer login : registry.get("auth.login").timers()) {
+            assertThat(login.takeSnapshot().histogramCounts()).hasSize(7);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package site.login.global.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.endpoint.PkceParameterNames;
+import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CookieAuthorizationRequestRepositoryTest {
+
+    private static final String SECRET = "test-secret-key-which-is-long-enough-for-hs256-0123456789";
+    private static final String COOKIE_NAME = "oauth2_auth_request";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void PKCE_nonce_registration_id까지_그대로_복원한다() {
+        CookieAuthorizationRequestRepository repository = repository(180, false);
+        OAuth2AuthorizationRequest saved = authorizationRequest();
+
+        OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(callback(save(repository, saved)));
+
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getAuthorizationUri()).isEqualTo(saved.getAuthorizationUri());
+        assertThat(loaded.getClientId()).isEqualTo(saved.getClientId());
+        assertThat(loaded.getRedirectUri()).isEqualTo(saved.getRedirectUri());
+        assertThat(loaded.getScopes()).isEqualTo(saved.getScopes());
+        assertThat(loaded.getState()).isEqualTo(saved.getState());
+        assertThat(loaded.getAdditionalParameters()).isEqualTo(saved.getAdditionalParameters());
+        assertThat(loaded.getAttributes()).isEqualTo(saved.getAttributes());
+        assertThat(loaded.<String>getAttribute(OAuth2ParameterNames.REGISTRATION_ID)).isEqualTo("google");
+        assertThat(loaded.getAuthorizationRequestUri()).isEqualTo(saved.getAuthorizationRequestUri());
+    }
+
+    @Test
+    void 변조된_쿠키는_복원하지_않는다() {
+        CookieAuthorizationRequestRepository repository = repository(180, false);
+        String value = save(repository, authorizationRequest());
+
+        // 가운데 한 글자를 바꿈 -> GCM 태그 검증 실패
+        int i = value.length() / 2;
+        char replaced = value.charAt(i) == 'A' ? 'B' : 'A';
+        String tampered = value.substring(0, i) + replaced + value.substring(i + 1);
+
+        assertThat(repository.loadAuthorizationRequest(callback(tampered))).isNull();
+        assertThat(repository.loadAuthorizationRequest(callback("not-base64!"))).isNull();
+    }
+
+    @Test
+    void 다른_키로_암호화된_쿠키는_복원하지_않는다() {
+        CookieAuthorizationRequestRepository other = new CookieAuthorizationRequestRepository(
+                objectMapper, SECRET + "-other", 180, false);
+        String value = save(other, authorizationRequest());
+
+        assertThat(repository(180, false).loadAuthorizationRequest(callback(value))).isNull();
+    }
+
+    @Test
+    void 만료_시각이_지난_쿠키는_복원하지_않는다() throws InterruptedException {
+        CookieAuthorizationRequestRepository repository = repository(0, false);
+        String value = save(repository, authorizationRequest());
+        Thread.sleep(10);
+
+        assertThat(repository.loadAuthorizationRequest(callback(value))).isNull();
+    }
+
+    @Test
+    void 콜백에서_꺼내면_쿠키를_지운다() {
+        CookieAuthorizationRequestRepository repository = repository(180, false);
+        String value = save(repository, authorizationRequest());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(repository.removeAuthorizationRequest(callback(value), response)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).startsWith(COOKIE_NAME + "=;").contains("Max-Age=0");
+    }
+
+    @Test
+    void cookie_secure를_켜면_HTTP_요청에도_Secure를_붙인다() {
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        repository(180, false).saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), plain);
+        assertThat(plain.getHeader(HttpHeaders.SET_COOKIE)).doesNotContain("Secure");
+
+        MockHttpServletResponse secure = new MockHttpServletResponse();
+        repository(180, true).saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), secure);
+        assertThat(secure.getHeader(HttpHeaders.SET_COOKIE)).contains("Secure");
+    }
+
+    private CookieAuthorizationRequestRepository repository(long maxAgeSeconds, boolean alwaysSecure) {
+        return new CookieAuthorizationRequestRepository(objectMapper, SECRET, maxAgeSeconds, alwaysSecure);
+    }
+
+    // Set-Cookie 헤더에서 쿠키 값만 꺼냄
+    private static String save(CookieAuthorizationRequestRepository repository, OAuth2AuthorizationRequest authorizationRequest) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        return header.substring(COOKIE_NAME.length() + 1, header.indexOf(';'));
+    }
+
+    private static MockHttpServletRequest callback(String cookieValue) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login/oauth2/code/google");
+        request.setCookies(new Cookie(COOKIE_NAME, cookieValue));
+        return request;
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("client-id")
+                .redirectUri("https://login.example.com/login/oauth2/code/google")
+                .scopes(Set.of("openid", "email", "profile"))
+                .state("state-123")
+                .additionalParameters(Map.of(
+                        PkceParameterNames.CODE_CHALLENGE, "challenge-abc",
+                        PkceParameterNames.CODE_CHALLENGE_METHOD, "S256",
+                        OidcParameterNames.NONCE, "hashed-nonce"))
+                .attributes(Map.of(
+                        OAuth2ParameterNames.REGISTRATION_ID, "google",
+                        PkceParameterNames.CODE_VERIFIER, "verifier-xyz",
+                        OidcParameterNames.NONCE, "nonce-raw"))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package site.login.global.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import site.login.global.exception.ErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ObjectMapper로_직렬화한_본문과_같은_JSON을_쓴다() throws Exception {
+        ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/\"me\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(request, response, ErrorCode.UNAUTHORIZED);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsByteArray()).hasSize(response.getContentLength());
+        JsonNode expected = objectMapper.valueToTree(ApiResponse.error(ErrorCode.UNAUTHORIZED, "/api/users/\"me\""));
+        assertThat(objectMapper.readTree(response.getContentAsByteArray())).isEqualTo(expected);
+    }
+
+    @Test
+    void 빈_값을_제외하는_ObjectMapper면_시작할_때_실패한다() {
+        ObjectMapper nonEmpty = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+        assertThatThrownBy(() -> new ErrorResponseWriter(nonEmpty))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 프로퍼티_이름이_바뀌는_ObjectMapper면_시작할_때_실패한다() {
+        ObjectMapper upperCamel = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+
+        assertThatThrownBy(() -> new ErrorResponseWriter(upperCamel))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
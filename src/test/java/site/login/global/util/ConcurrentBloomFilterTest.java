@@ -0,0 +1,80 @@
+package site.login.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentBloomFilterTest {
+
+    @Test
+    void 동시에_추가한_값은_모두_있다고_판단한다() throws InterruptedException {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(100_000, 0.01);
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                // 같은 워드의 비트를 여러 스레드가 동시에 켜도 잃어버리지 않아야 함
+                for (int i = 0; i < perThread; i++) {
+                    filter.put("user" + thread + "-" + i + "@example.com");
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                assertThat(filter.mightContain("user" + t + "-" + i + "@example.com")).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void 오탐률은_설정값_근처다() {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("stranger" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+    }
+
+    @Test
+    void 합친_필터는_양쪽_값을_모두_가진다() {
+        ConcurrentBloomFilter left = new ConcurrentBloomFilter(1_000, 0.01);
+        ConcurrentBloomFilter right = new ConcurrentBloomFilter(1_000, 0.01);
+        left.put("a@example.com");
+        right.put("b@example.com");
+
+        left.putAll(right);
+
+        assertThat(left.mightContain("a@example.com")).isTrue();
+        assertThat(left.mightContain("b@example.com")).isTrue();
+        assertThatThrownBy(() -> left.putAll(new ConcurrentBloomFilter(10, 0.5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package site.login.global.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataIntegrityUtilTest {
+
+    private static final String EMAIL = "uk_users_email";
+
+    @Test
+    void 추출된_제약_이름으로_구분한다() {
+        assertThat(DataIntegrityUtil.isDuplicateKey(violation(
+                "Duplicate entry 'a@example.com' for key 'users.uk_users_email'", "23000", 1062, "users.uk_users_email"), EMAIL)).isTrue();
+        assertThat(DataIntegrityUtil.isDuplicateKey(violation(
+                "Duplicate entry '51' for key 'users.PRIMARY'", "23000", 1062, "PRIMARY"), EMAIL)).isFalse();
+    }
+
+    @Test
+    void 제약_이름이_없으면_오류_메시지로_구분한다() {
+        // PostgreSQL / H2
+        assertThat(DataIntegrityUtil.isDuplicateKey(violation(
+                "duplicate key value violates unique constraint \"uk_users_email\"", "23505", 0, null), EMAIL)).isTrue();
+        assertThat(DataIntegrityUtil.isDuplicateKey(violation(
+                "Unique index or primary key violation: \"PUBLIC.UK_USERS_EMAIL_INDEX_4 ON PUBLIC.USERS(EMAIL)\"", "23505", 0, null), EMAIL)).isTrue();
+        assertThat(DataIntegrityUtil.isDuplicateKey(violation(
+                "duplicate key value violates unique constraint \"users_pkey\"", "23505", 0, null), EMAIL)).isFalse();
+    }
+
+    @Test
+    void 유니크_위반이_아니면_제약_이름과_관계없이_false() {
+        assertThat(DataIntegrityUtil.isDuplicateKey(violation(
+                "Column 'email' cannot be null (uk_users_email)", "23000", 1048, null), EMAIL)).isFalse();
+    }
+
+    private static DataIntegrityViolationException violation(String message, String sqlState, int errorCode, String constraintName) {
+        SQLException sqlException = new SQLException(message, sqlState, errorCode);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException(message, sqlException, constraintName));
+    }
+}
@@ -0,0 +1,93 @@
+package site.login.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    void 만료된_항목은_조회되지_않는다() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        long now = System.currentTimeMillis();
+
+        cache.put("live", "a", now + 60_000);
+        cache.put("expired", "b", now - 1);
+
+        assertThat(cache.get("live")).isEqualTo("a");
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_저장하고_조회해도_크기_제한을_지키고_다른_키의_값을_반환하지_않는다() throws InterruptedException {
+        int maxSize = 1_000;
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(maxSize);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        AtomicInteger wrongValues = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 20_000; i++) {
+                int key = thread * 100_000 + i;
+                cache.put(key, key * 2, expiresAt);
+                Integer value = cache.get(key - 7);
+                if (value != null && value != (key - 7) * 2) {
+                    wrongValues.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(wrongValues.get()).isZero();
+        // 정리는 한 스레드만 하므로 동시에 들어온 저장 수만큼은 잠시 넘칠 수 있음
+        assertThat(cache.size()).isLessThanOrEqualTo(maxSize + THREADS);
+    }
+
+    @Test
+    void 동시에_제거해도_제거한_키는_다시_조회되지_않는다() throws InterruptedException {
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(100_000);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 80_000; i++) {
+            cache.put(i, i, expiresAt);
+        }
+
+        runConcurrently(thread -> {
+            for (int i = thread; i < 80_000; i += THREADS) {
+                cache.remove(i);
+            }
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private static void runConcurrently(ThreadTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run(thread);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private interface ThreadTask {
+        void run(int thread) throws InterruptedException;
+    }
+}
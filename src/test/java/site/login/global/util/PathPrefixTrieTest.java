@@ -0,0 +1,60 @@
+package site.login.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPrefixTrieTest {
+
+    private final PathPrefixTrie trie = PathPrefixTrie.compile(
+            new String[]{"/api/auth/", "/oauth2/"},
+            new String[]{"/", "/error"});
+
+    @Test
+    void 접두사와_정확_일치를_구분한다() {
+        assertThat(trie.matches("/api/auth/login")).isTrue();
+        assertThat(trie.matches("/api/auth/")).isTrue();
+        assertThat(trie.matches("/oauth2/authorization/kakao")).isTrue();
+        assertThat(trie.matches("/error")).isTrue();
+        assertThat(trie.matches("/")).isTrue();
+
+        assertThat(trie.matches("/api/auth")).isFalse();
+        assertThat(trie.matches("/error/detail")).isFalse();
+        assertThat(trie.matches("/api/users/me")).isFalse();
+        assertThat(trie.matches(null)).isFalse();
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_조회해도_결과가_같다() throws Exception {
+        List<String> paths = List.of("/api/auth/login", "/api/users/me", "/error", "/error/x", "/oauth2/a", "/");
+        List<Boolean> expected = paths.stream().map(trie::matches).collect(Collectors.toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = IntStream.range(0, 8)
+                    .<Callable<Boolean>>mapToObj(t -> () -> {
+                        for (int i = 0; i < 100_000; i++) {
+                            int index = (i + t) % paths.size();
+                            if (trie.matches(paths.get(index)) != expected.get(index)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    })
+                    .collect(Collectors.toList());
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
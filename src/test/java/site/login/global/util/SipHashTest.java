@@ -0,0 +1,33 @@
+package site.login.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SipHashTest {
+
+    // 참조 구현 테스트 벡터 (키 00..0f, 입력 00..n-1)
+    private final SipHash sipHash = new SipHash(0x0706050403020100L, 0x0f0e0d0c0b0a0908L);
+
+    @Test
+    void 참조_테스트_벡터와_같다() {
+        assertThat(sipHash.hash(sequence(0))).isEqualTo(0x726fdb47dd0e0e31L);
+        assertThat(sipHash.hash(sequence(8))).isEqualTo(0x93f5f5799a932462L);
+        assertThat(sipHash.hash(sequence(15))).isEqualTo(0xa129ca6149be45e5L);
+    }
+
+    @Test
+    void 키가_다르면_결과도_다르다() {
+        byte[] data = "user@example.com".getBytes();
+
+        assertThat(new SipHash(1, 2).hash(data)).isNotEqualTo(new SipHash(3, 4).hash(data));
+    }
+
+    private static byte[] sequence(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+}